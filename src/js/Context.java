@@ -0,0 +1,260 @@
+
+/*
+ *  JScripter Standard 1.0 - To Script In Java
+ *  Copyright (C) 2008-2011  J.J.Liu<jianjunliu@126.com> <http://www.jscripter.org>
+ *  
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Affero General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *  
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Affero General Public License for more details.
+ *  
+ *  You should have received a copy of the GNU Affero General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package js;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * <p>An <b>internal</b> class for isolated JS Simulation contexts.</p>
+ * <p>A context carries its own {@link Sim}, its own values of the {@link Static} 
+ * references and its own timers. While a context is entered on a thread, {@link Js} 
+ * and the simulation classes use it instead of the global simulation set by 
+ * {@link Js#init(Sim)}, so that a single JVM can host many independent simulations 
+ * in parallel. Each context runs its own event loop on a single thread, which runs the 
+ * timer and the asynchronous HTTP request callbacks of the context one at a time, and 
+ * threads started inside a context inherit the context of their creators.</p>
+ * <p>A typical use is:</p>
+ * <pre>
+ * Context c = Context.create(Core.create());
+ * c.enter();
+ * try {
+ *     ...
+ * } finally {
+ *     c.exit();
+ *     c.dispose();
+ * }
+ * </pre>
+ * <p>This <b>internal</b> class is only used internally in JS Simulation Library or 
+ * externally in the same way as {@link Js#init(Sim)} is.</p>
+ *
+ * @author <a href="mailto:jianjunliu@126.com">J.J.Liu (Jianjun Liu)</a> at <a href="http://www.jscripter.org" target="_blank">http://www.jscripter.org</a>
+ * @see Js#init(Sim)
+ *
+ * @javascript Re-compilers must report error on resolving an <tt>internal</tt> class. 
+ */
+
+public final class Context
+{
+	private static volatile boolean scoped;
+	private static final ThreadLocal<Object[]> frames = new InheritableThreadLocal<Object[]>();
+
+	private final Sim sim;
+	private final Map<Object, Object> values = new IdentityHashMap<Object, Object>();
+	private final Map<Thread, Object> threads = new WeakHashMap<Thread, Object>();
+	private volatile boolean disposed;
+	private int copied;
+
+	private Context(Sim sim) {
+		this.sim = sim;
+	}
+
+	/**
+	 * <p>Internally creates a context for a JS Simulation.</p>
+	 * @param sim A JS Simulation instance which must not be shared with other contexts.
+	 * @return The newly created context.
+	 * @throws NullPointerException if the simulation is <tt>null</tt>. 
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	public static final Context create(Sim sim) {
+		if (sim == null) {
+			throw new NullPointerException();
+		}
+		scoped = true;
+		return new Context(sim);
+	}
+
+	/**
+	 * <p>Internally gets the context entered on the current thread.</p>
+	 * @return The current context or <tt>null</tt> if no context is entered on the 
+	 * current thread. 
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	public static final Context current() {
+		if (!scoped) {
+			return null;
+		}
+		Object[] frame = frames.get();
+		return frame == null ? null : (Context)frame[0];
+	}
+
+	/**
+	 * <p>Internally gets the JS Simulation of the current context.</p>
+	 * @return The JS Simulation instance. 
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	public final Sim sim() {
+		return sim;
+	}
+
+	/**
+	 * <p>Internally enters the current context on the current thread.</p>
+	 * <p>Contexts may be nested. Each call to this method must be paired with a call to 
+	 * {@link #exit()} on the same thread.</p>
+	 * @throws IllegalStateException if the current context has been disposed. 
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	public final void enter() {
+		if (disposed) {
+			throw new IllegalStateException("Context disposed!");
+		}
+		frames.set(new Object[]{this, frames.get()});
+	}
+
+	/**
+	 * <p>Internally exits the current context on the current thread, restoring the 
+	 * context that was entered before it, if any.</p>
+	 * @throws IllegalStateException if the current context is not the innermost one 
+	 * entered on the current thread. 
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	public final void exit() {
+		Object[] frame = frames.get();
+		if (frame == null || frame[0] != this) {
+			throw new IllegalStateException("Context not entered!");
+		}
+		if (frame[1] == null) {
+			frames.remove();
+		} else {
+			frames.set((Object[])frame[1]);
+		}
+	}
+
+	/**
+	 * <p>Internally detaches the current thread from all the contexts it has entered or 
+	 * inherited from its creator.</p>
+	 * <p>Pooled worker threads call this method before running tasks for other threads, 
+	 * which then enter their own contexts explicitly.</p>
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	public static final void detach() {
+		frames.remove();
+	}
+
+	/**
+	 * <p>Internally disposes the current context, dropping its static references and 
+	 * stopping the timers started inside it.</p>
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	public final void dispose() {
+		Thread[] ts;
+		synchronized (this) {
+			if (disposed) {
+				return;
+			}
+			disposed = true;
+			values.clear();
+			ts = threads.keySet().toArray(new Thread[threads.size()]);
+			threads.clear();
+		}
+		for (Thread t : ts) {
+			t.interrupt();
+		}
+	}
+
+	/**
+	 * <p>Internally forks the current context.</p>
+	 * <p>The forked context runs a copy of the simulation of the current context, see 
+	 * {@link Sim#fork(Map)}, so that it starts with the global objects and prototypes 
+	 * already initialized. The values of the {@link Static} references are copied along 
+	 * with the simulation or carried over if they are primitive values. The other ones are 
+	 * evaluated again in the forked context when they are first used.</p>
+	 * <p>The current context must not be modified while it is being forked.</p>
+	 * @return The forked context.
+	 * @throws UnsupportedOperationException if the simulation of the current context 
+	 * does not support forking.
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	public final Context fork() {
+		Map<Object, Object> copies = new IdentityHashMap<Object, Object>(copied);
+		Context ret;
+		synchronized (this) {
+			for (Object v : values.values()) {
+				copies.put(v, null);
+			}
+			ret = new Context(sim.fork(copies));
+			copied = copies.size();
+			for (Map.Entry<Object, Object> e : values.entrySet()) {
+				Object v = e.getValue();
+				Object c = copies.get(v);
+				if (c != null) {
+					ret.values.put(e.getKey(), c);
+				} else if (v instanceof String  || v instanceof Number ||
+				           v instanceof Boolean || v instanceof Character) {
+					ret.values.put(e.getKey(), v);
+				}
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * <p>Internally checks if the current context has been disposed.</p>
+	 * @return <tt>true</tt> if the current context has been disposed; <tt>false</tt> otherwise. 
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	public final boolean isDisposed() {
+		return disposed;
+	}
+
+	/**
+	 * <p>Internally binds a thread to the current context so that it is interrupted 
+	 * when the context is disposed.</p>
+	 * @param t A thread started inside the current context. 
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	public final void bind(Thread t) {
+		synchronized (this) {
+			if (!disposed) {
+				threads.put(t, null);
+				return;
+			}
+		}
+		t.interrupt();
+	}
+
+	@SuppressWarnings("unchecked")
+	final synchronized <T> T get(Object key) {
+		return (T)values.get(key);
+	}
+
+	@SuppressWarnings("unchecked")
+	final synchronized <T> T put(Object key, T value) {
+		Object v = values.get(key);
+		if (v != null) {
+			return (T)v;
+		}
+		if (!disposed) {
+			values.put(key, value);
+		}
+		return value;
+	}
+}
@@ -60,6 +60,11 @@ public abstract class Function<T> extends Var<JsFunction<T>>
 			this.arguments = new Arguments(this, args);
 		}
 
+		private Call(Function<T> var, int length, Object arg0, Object arg1, Object arg2) {
+			this.var = var;
+			this.arguments = new Arguments(this, length, arg0, arg1, arg2);
+		}
+
 		/**
 		 * <p>Returns the function instance.</p>
 		 * @return The function instance.
@@ -81,7 +86,7 @@ public abstract class Function<T> extends Var<JsFunction<T>>
 		 * where <tt>f</tt> is the current instance of the invocation.
 		 */
 		public final T invoke() {
-			return invoke(new Vars<Object>());
+			return var.call(Js.core());
 		}
 
 		/**
@@ -95,7 +100,38 @@ public abstract class Function<T> extends Var<JsFunction<T>>
 		 * where <tt>f</tt> is the current instance of the invocation.
 		 */
 		public final T invoke(Object arg) {
-			return invoke(new Vars<Object>().add(arg));
+			return var.call(Js.core(), arg);
+		}
+
+		/**
+		 * <p>Invokes the current function instance, passing the specified arguments.</p>
+		 * @param arg0 The first argument value.
+		 * @param arg1 The second argument value.
+		 * @return The return value of the invocation.
+		 * @since 1.0
+		 * @javascript Re-compilers must convert the instance invocation of this method into 
+		 * the JavaScript expression: 
+		 * <pre>f(arg0, arg1)</pre>
+		 * where <tt>f</tt> is the current instance of the invocation.
+		 */
+		public final T invoke(Object arg0, Object arg1) {
+			return var.call(Js.core(), arg0, arg1);
+		}
+
+		/**
+		 * <p>Invokes the current function instance, passing the specified arguments.</p>
+		 * @param arg0 The first argument value.
+		 * @param arg1 The second argument value.
+		 * @param arg2 The third argument value.
+		 * @return The return value of the invocation.
+		 * @since 1.0
+		 * @javascript Re-compilers must convert the instance invocation of this method into 
+		 * the JavaScript expression: 
+		 * <pre>f(arg0, arg1, arg2)</pre>
+		 * where <tt>f</tt> is the current instance of the invocation.
+		 */
+		public final T invoke(Object arg0, Object arg1, Object arg2) {
+			return var.call(Js.core(), arg0, arg1, arg2);
 		}
 
 		/**
@@ -126,7 +162,7 @@ public abstract class Function<T> extends Var<JsFunction<T>>
 		 * the method name, but expanding variable arguments, if any, into comma-separated values. 
 		 */
 		public final T call(Object thisobj) {
-			return call(thisobj, new Vars<Object>());
+			return var.call(thisobj);
 		}
 
 		/**
@@ -144,7 +180,46 @@ public abstract class Function<T> extends Var<JsFunction<T>>
 		 * the method name, but expanding variable arguments, if any, into comma-separated values. 
 		 */
 		public final T call(Object thisobj, Object arg) {
-			return call(thisobj, new Vars<Object>().add(arg));
+			return var.call(thisobj, arg);
+		}
+
+		/**
+		 * <p>Invokes the current function instance as a method of a specified scope object, 
+		 * passing the specified arguments.</p>
+		 * @param thisobj The scope object.
+		 * @param arg0 The first argument value.
+		 * @param arg1 The second argument value.
+		 * @return The return value of the invocation.
+		 * @throws RuntimeException JavaScript throws a <tt>TypeError</tt> if this method 
+		 * is invoked with a scope object that is not a function. See {@link Js#err(Object)} 
+		 * and {@link js.core.JsTypeError} for JS Simulation.
+		 * @since 1.0
+		 * @javascript Re-compilers must convert the instance invocation of this method 
+		 * directly into a JavaScript invocation on its current instance without changing 
+		 * the method name, but expanding variable arguments, if any, into comma-separated values. 
+		 */
+		public final T call(Object thisobj, Object arg0, Object arg1) {
+			return var.call(thisobj, arg0, arg1);
+		}
+
+		/**
+		 * <p>Invokes the current function instance as a method of a specified scope object, 
+		 * passing the specified arguments.</p>
+		 * @param thisobj The scope object.
+		 * @param arg0 The first argument value.
+		 * @param arg1 The second argument value.
+		 * @param arg2 The third argument value.
+		 * @return The return value of the invocation.
+		 * @throws RuntimeException JavaScript throws a <tt>TypeError</tt> if this method 
+		 * is invoked with a scope object that is not a function. See {@link Js#err(Object)} 
+		 * and {@link js.core.JsTypeError} for JS Simulation.
+		 * @since 1.0
+		 * @javascript Re-compilers must convert the instance invocation of this method 
+		 * directly into a JavaScript invocation on its current instance without changing 
+		 * the method name, but expanding variable arguments, if any, into comma-separated values. 
+		 */
+		public final T call(Object thisobj, Object arg0, Object arg1, Object arg2) {
+			return var.call(thisobj, arg0, arg1, arg2);
 		}
 
 		/**
@@ -234,13 +309,23 @@ public abstract class Function<T> extends Var<JsFunction<T>>
 		 * without changing the field name. 
 		 */
 		public final Call<?> callee;
-		private final Vars<?> vars;
+		private final int length;
+		private final Object arg0, arg1, arg2;
+		private Vars<?> vars;
 
 		private Arguments(Call<?> callee, Vars<?> vars) {
-			this.callee = callee;
+			this(callee, 0, null, null, null);
 			this.vars = vars;
 		}
 
+		private Arguments(Call<?> callee, int length, Object arg0, Object arg1, Object arg2) {
+			this.callee = callee;
+			this.length = length;
+			this.arg0 = arg0;
+			this.arg1 = arg1;
+			this.arg2 = arg2;
+		}
+
 		/**
 		 * <p>Gets the size of the current arguments instance.</p>
 		 * @return size of the arguments
@@ -251,7 +336,7 @@ public abstract class Function<T> extends Var<JsFunction<T>>
 		 * where <tt>a</tt> is the current instance of the invocation.
 		 */
 		public final int length() {
-			return vars.var().length();
+			return vars != null ? vars.var().length() : length;
 		}
 
 		/**
@@ -265,7 +350,22 @@ public abstract class Function<T> extends Var<JsFunction<T>>
 		 * where <tt>a</tt> is the current instance of the invocation.
 		 */
 		public final Object get(int i) {
-			return vars.var().get(i);
+			if (vars != null) {
+				return vars.var().get(i);
+			}
+			if (i >= length) {
+				return null;
+			}
+			switch (i) {
+				case 0:
+					return arg0;
+				case 1:
+					return arg1;
+				case 2:
+					return arg2;
+				default:
+					return null;
+			}
 		}
 
 		/**
@@ -277,6 +377,19 @@ public abstract class Function<T> extends Var<JsFunction<T>>
 		 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
 		 */
 		public final Vars<?> var() {
+			if (vars == null) {
+				Vars<Object> v = new Vars<Object>();
+				if (length > 0) {
+					v.add(arg0);
+				}
+				if (length > 1) {
+					v.add(arg1);
+				}
+				if (length > 2) {
+					v.add(arg2);
+				}
+				vars = v;
+			}
 			return vars;
 		}
 
@@ -421,7 +534,7 @@ public abstract class Function<T> extends Var<JsFunction<T>>
 	 * invocation.
 	 */
 	public final T invoke() {
-		return invoke(new Vars<Object>());
+		return call(Js.core());
 	}
 
 	/**
@@ -436,7 +549,40 @@ public abstract class Function<T> extends Var<JsFunction<T>>
 	 * invocation.
 	 */
 	public final T invoke(Object arg) {
-		return invoke(new Vars<Object>().add(arg));
+		return call(Js.core(), arg);
+	}
+
+	/**
+	 * <p>An <b>opaque</b> method to invoke the function of the current function object, 
+	 * passing the specified arguments.</p>
+	 * @param arg0 The first argument value.
+	 * @param arg1 The second argument value.
+	 * @return The return value of the invocation.
+	 * @since 1.0
+	 * @javascript Re-compilers must convert this instance invocation into the JavaScript expression: 
+	 * <pre>f(arg0, arg1)</pre>
+	 * where <tt>f</tt> is the function of the current function object instance of the 
+	 * invocation.
+	 */
+	public final T invoke(Object arg0, Object arg1) {
+		return call(Js.core(), arg0, arg1);
+	}
+
+	/**
+	 * <p>An <b>opaque</b> method to invoke the function of the current function object, 
+	 * passing the specified arguments.</p>
+	 * @param arg0 The first argument value.
+	 * @param arg1 The second argument value.
+	 * @param arg2 The third argument value.
+	 * @return The return value of the invocation.
+	 * @since 1.0
+	 * @javascript Re-compilers must convert this instance invocation into the JavaScript expression: 
+	 * <pre>f(arg0, arg1, arg2)</pre>
+	 * where <tt>f</tt> is the function of the current function object instance of the 
+	 * invocation.
+	 */
+	public final T invoke(Object arg0, Object arg1, Object arg2) {
+		return call(Js.core(), arg0, arg1, arg2);
 	}
 
 	/**
@@ -469,7 +615,7 @@ public abstract class Function<T> extends Var<JsFunction<T>>
 	 * without changing the method name, but expanding variable arguments, if any, into comma-separated values. 
 	 */
 	public final T call(Object thisobj) {
-		return call(thisobj, new Vars<Object>());
+		return function(thisobj, new Call<T>(this, 0, null, null, null));
 	}
 
 	/**
@@ -488,7 +634,46 @@ public abstract class Function<T> extends Var<JsFunction<T>>
 	 * without changing the method name, but expanding variable arguments, if any, into comma-separated values. 
 	 */
 	public final T call(Object thisobj, Object arg) {
-		return call(thisobj, new Vars<Object>().add(arg));
+		return function(thisobj, new Call<T>(this, 1, arg, null, null));
+	}
+
+	/**
+	 * <p>An <b>opaque</b> method to invoke the function of the current function object as 
+	 * a method of a specified scope object, passing the specified arguments.</p>
+	 * @param thisobj The scope object.
+	 * @param arg0 The first argument value.
+	 * @param arg1 The second argument value.
+	 * @return The return value of the invocation.
+	 * @throws RuntimeException JavaScript throws a <tt>TypeError</tt> if this method 
+	 * is invoked with a scope object that is not a function. See {@link Js#err(Object)} 
+	 * and {@link js.core.JsTypeError} for JS Simulation.
+	 * @since 1.0
+	 * @javascript Re-compilers must convert the instance invocation of this method directly 
+	 * into a JavaScript invocation on the function of the current function object instance 
+	 * without changing the method name, but expanding variable arguments, if any, into comma-separated values. 
+	 */
+	public final T call(Object thisobj, Object arg0, Object arg1) {
+		return function(thisobj, new Call<T>(this, 2, arg0, arg1, null));
+	}
+
+	/**
+	 * <p>An <b>opaque</b> method to invoke the function of the current function object as 
+	 * a method of a specified scope object, passing the specified arguments.</p>
+	 * @param thisobj The scope object.
+	 * @param arg0 The first argument value.
+	 * @param arg1 The second argument value.
+	 * @param arg2 The third argument value.
+	 * @return The return value of the invocation.
+	 * @throws RuntimeException JavaScript throws a <tt>TypeError</tt> if this method 
+	 * is invoked with a scope object that is not a function. See {@link Js#err(Object)} 
+	 * and {@link js.core.JsTypeError} for JS Simulation.
+	 * @since 1.0
+	 * @javascript Re-compilers must convert the instance invocation of this method directly 
+	 * into a JavaScript invocation on the function of the current function object instance 
+	 * without changing the method name, but expanding variable arguments, if any, into comma-separated values. 
+	 */
+	public final T call(Object thisobj, Object arg0, Object arg1, Object arg2) {
+		return function(thisobj, new Call<T>(this, 3, arg0, arg1, arg2));
 	}
 
 	/**
@@ -19,6 +19,8 @@
 
 package js;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * <p>An <b>opaque</b> class to construct an ID which can be used as a field 
  * identifier that is globally or locally unique.</p>
@@ -32,7 +34,7 @@ package js;
 
 public class Id<T> extends Disposable
 {
-	private static int nextId;
+	private static final AtomicInteger nextId = new AtomicInteger();
 
 	private final Var.Mid mid;
 
@@ -66,7 +68,7 @@ public class Id<T> extends Disposable
 	 * integer as a field identifier.
 	 */
 	public Id() {
-		this(Integer.toString(nextId++));
+		this(Integer.toString(nextId.getAndIncrement()));
 	}
 
 	/**
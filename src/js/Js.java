@@ -64,7 +64,8 @@ public abstract class Js extends Function<Void>
 	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
 	 */
 	static final Sim s() {
-		return s;
+		Context c = Context.current();
+		return c != null ? c.sim() : s;
 	}
 
 	/**
@@ -1285,7 +1286,7 @@ public abstract class Js extends Function<Void>
 	 * <pre>"" + v</pre>
 	 */
 	public static final String toString(Object v) {
-		return undefined(v) ? "undefined" : v.toString();
+		return undefined(v) ? "undefined" : v instanceof Number ? s().toString((Number)v) : v.toString();
 	}
 
 	/**
@@ -1843,6 +1844,160 @@ public abstract class Js extends Function<Void>
 	public static final boolean delete(ArrayLike<?> var, int i) {
 		return var == null ? false : var.delete(i);
 	}
+	/**
+	 * <p>Gets an array element as an <tt>int</tt> value.</p>
+	 * <p>Arrays created from primitive Java arrays are read without boxing their elements 
+	 * in JS Simulation.</p>
+	 * @param var The array to get an element from.
+	 * @param i The array index of the element.
+	 * @return The element converted to an <tt>int</tt> value or <tt>0</tt> if it is undefined.
+	 * @see #getDouble(ArrayLike, int)
+	 * @see #setInt(ArrayLike, int, int)
+	 * @since 1.0
+	 * @javascript Re-compilers must replace the static invocation of this method with the 
+	 * JavaScript expression:
+	 * <pre>(var[i] | 0)</pre>
+	 */
+	public static final int getInt(ArrayLike<?> var, int i) { return s().getInt(var, i);}
+	/**
+	 * <p>Gets an array element as a <tt>double</tt> value.</p>
+	 * <p>Arrays created from primitive Java arrays are read without boxing their elements 
+	 * in JS Simulation.</p>
+	 * @param var The array to get an element from.
+	 * @param i The array index of the element.
+	 * @return The element converted to a <tt>double</tt> value or <tt>NaN</tt> if it is undefined.
+	 * @see #getInt(ArrayLike, int)
+	 * @see #setDouble(ArrayLike, int, double)
+	 * @since 1.0
+	 * @javascript Re-compilers must replace the static invocation of this method with the 
+	 * JavaScript expression:
+	 * <pre>(+var[i])</pre>
+	 */
+	public static final double getDouble(ArrayLike<?> var, int i) { return s().getDouble(var, i);}
+	/**
+	 * <p>Sets an array element to an <tt>int</tt> value.</p>
+	 * <p>Arrays created from primitive Java arrays are written, and grown by one element 
+	 * when <tt>i</tt> is the length of the array, without boxing the value in JS Simulation.</p>
+	 * @param var The array to set an element of.
+	 * @param i The array index of the element.
+	 * @param v The new value of the element.
+	 * @see #setDouble(ArrayLike, int, double)
+	 * @see #getInt(ArrayLike, int)
+	 * @since 1.0
+	 * @javascript Re-compilers must replace the static invocation of this method with the 
+	 * JavaScript expression:
+	 * <pre>var[i] = v</pre>
+	 */
+	public static final void setInt(ArrayLike<?> var, int i, int v) { s().setInt(var, i, v);}
+	/**
+	 * <p>Sets an array element to a <tt>double</tt> value.</p>
+	 * <p>Arrays created from primitive Java arrays are written, and grown by one element 
+	 * when <tt>i</tt> is the length of the array, without boxing the value in JS Simulation.</p>
+	 * @param var The array to set an element of.
+	 * @param i The array index of the element.
+	 * @param v The new value of the element.
+	 * @see #setInt(ArrayLike, int, int)
+	 * @see #getDouble(ArrayLike, int)
+	 * @since 1.0
+	 * @javascript Re-compilers must replace the static invocation of this method with the 
+	 * JavaScript expression:
+	 * <pre>var[i] = v</pre>
+	 */
+	public static final void setDouble(ArrayLike<?> var, int i, double v) { s().setDouble(var, i, v);}
+	/**
+	 * <p>Creates an array of the results of calling a function on each element in a range 
+	 * of an array.</p>
+	 * <p>In JS Simulation, the function is called in order on the calling thread, unless 
+	 * the simulation is a subclass that overrides its parallelism, in which case it may be 
+	 * called in parallel and out of order on large arrays created from primitive Java 
+	 * arrays.</p>
+	 * @param var The array.
+	 * @param f The function called with an element and its array index.
+	 * @param from The array index of the first element.
+	 * @param to The array index after the last element, which must not be greater than 
+	 * the length of the array.
+	 * @return The newly created array of the results.
+	 * @see #filter(ArrayLike, JsFunction, int, int)
+	 * @see #forEach(ArrayLike, JsFunction, int, int)
+	 * @since 1.0
+	 * @javascript Re-compilers must replace the static invocation of this method with the 
+	 * JavaScript expression:
+	 * <pre>(function(a, f, i, n) { for (var r = []; i < n; i++) r.push(f(a[i], i)); return r; })(var, f, from, to)</pre>
+	 */
+	public static final <T> ArrayLike<T> map(ArrayLike<?> var, JsFunction<T> f, int from, int to) { return s().map(var, f, from, to);}
+	/**
+	 * <p>Creates an array of the elements in a range of an array for which a function 
+	 * evaluates to <tt>true</tt>.</p>
+	 * <p>In JS Simulation, the function is called in order on the calling thread, unless 
+	 * the simulation is a subclass that overrides its parallelism, in which case it may be 
+	 * called in parallel and out of order on large arrays created from primitive Java 
+	 * arrays.</p>
+	 * @param var The array.
+	 * @param f The function called with an element and its array index.
+	 * @param from The array index of the first element.
+	 * @param to The array index after the last element, which must not be greater than 
+	 * the length of the array.
+	 * @return The newly created array of the elements kept.
+	 * @see #map(ArrayLike, JsFunction, int, int)
+	 * @since 1.0
+	 * @javascript Re-compilers must replace the static invocation of this method with the 
+	 * JavaScript expression:
+	 * <pre>(function(a, f, i, n) { for (var r = []; i < n; i++) if (f(a[i], i)) r.push(a[i]); return r; })(var, f, from, to)</pre>
+	 */
+	public static final <T> ArrayLike<T> filter(ArrayLike<T> var, JsFunction<?> f, int from, int to) { return s().filter(var, f, from, to);}
+	/**
+	 * <p>Folds the elements in a range of an array from left to right with a function.</p>
+	 * <p>The elements are always folded one after another, starting from <tt>initial</tt>, 
+	 * so the function needs not be associative.</p>
+	 * @param var The array.
+	 * @param f The function called with the value accumulated so far and an element.
+	 * @param initial The initial value.
+	 * @param from The array index of the first element.
+	 * @param to The array index after the last element, which must not be greater than 
+	 * the length of the array.
+	 * @return The accumulated value or <tt>initial</tt> if the range is empty.
+	 * @see #map(ArrayLike, JsFunction, int, int)
+	 * @since 1.0
+	 * @javascript Re-compilers must replace the static invocation of this method with the 
+	 * JavaScript expression:
+	 * <pre>(function(a, f, v, i, n) { for (; i < n; i++) v = f(v, a[i]); return v; })(var, f, initial, from, to)</pre>
+	 */
+	public static final <T> T reduce(ArrayLike<?> var, JsFunction<T> f, Object initial, int from, int to) { return s().reduce(var, f, initial, from, to);}
+	/**
+	 * <p>Calls a function on each element in a range of an array.</p>
+	 * <p>In JS Simulation, the function is called in order on the calling thread, unless 
+	 * the simulation is a subclass that overrides its parallelism, in which case it may be 
+	 * called in parallel and out of order on large arrays created from primitive Java 
+	 * arrays.</p>
+	 * @param var The array.
+	 * @param f The function called with an element and its array index.
+	 * @param from The array index of the first element.
+	 * @param to The array index after the last element, which must not be greater than 
+	 * the length of the array.
+	 * @see #map(ArrayLike, JsFunction, int, int)
+	 * @since 1.0
+	 * @javascript Re-compilers must replace the static invocation of this method with the 
+	 * JavaScript expression:
+	 * <pre>(function(a, f, i, n) { for (; i < n; i++) f(a[i], i); })(var, f, from, to)</pre>
+	 */
+	public static final void forEach(ArrayLike<?> var, JsFunction<?> f, int from, int to) { s().forEach(var, f, from, to);}
+	/**
+	 * <p>Searches a range of an array for the first element equal to a value.</p>
+	 * <p>In JS Simulation, large arrays created from primitive Java arrays may be searched 
+	 * in parallel.</p>
+	 * @param var The array.
+	 * @param v The value to search for.
+	 * @param from The array index of the first element.
+	 * @param to The array index after the last element, which must not be greater than 
+	 * the length of the array.
+	 * @return The array index of the first element found or <tt>-1</tt> if none is found.
+	 * @see #eq(Object, Object)
+	 * @since 1.0
+	 * @javascript Re-compilers must replace the static invocation of this method with the 
+	 * JavaScript expression:
+	 * <pre>(function(a, v, i, n) { for (; i < n; i++) if (a[i] == v) return i; return -1; })(var, v, from, to)</pre>
+	 */
+	public static final int indexOf(ArrayLike<?> var, Object v, int from, int to) { return s().indexOf(var, v, from, to);}
 
 	/**
 	 * <p>Performs unary negation, resembling the unary minus operator in JavaScript.</p>
@@ -1938,6 +2093,9 @@ public abstract class Js extends Function<Void>
 	 * <pre>var + other</pre>
 	 */
 	public static final Object add(Object var, Object other) {
+		if (var instanceof Number && other instanceof Number) {
+			return s().add((Number)var, (Number)other);
+		}
 		Number n1 = s().getNumber(var);
 		if (n1 == null) {
 			return Js.toString(var).concat(Js.toString(other));
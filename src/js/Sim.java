@@ -19,6 +19,8 @@
 
 package js;
 
+import java.util.Map;
+
 import js.core.*;
 import js.user.*;
 
@@ -57,6 +59,22 @@ public abstract class Sim extends Var<Void>
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * <p>Internally forks the current JS Simulation, copying the objects it has created.</p>
+	 * <p>This method simply throws an {@link UnsupportedOperationException} exception 
+	 * unless it is overridden by a simulation that supports forking.</p>
+	 * @param copies A map to receive the copies of the objects of the current simulation, 
+	 * keyed by the original objects. On entry, it may contain extra objects of the current 
+	 * simulation, mapped to <tt>null</tt>, to be copied as well.
+	 * @return The forked JS Simulation.
+	 * @see Context#fork()
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	protected Sim fork(Map<Object, Object> copies) {
+		throw new UnsupportedOperationException();
+	}
+
 	/**
 	 * <p>Returns the opaque global object with the core support only.</p>
 	 * @return The opaque global object with the core support only.
@@ -772,6 +790,114 @@ public abstract class Sim extends Var<Void>
 	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
 	 */
 	protected abstract ArrayLike<Double>    array(double [] a);
+	/**
+	 * <p>Gets an array element as an <tt>int</tt> value without boxing it if possible.</p>
+	 * @param a The array.
+	 * @param i The array index of the element.
+	 * @return The element converted to an <tt>int</tt> value or <tt>0</tt> if it is undefined.
+	 * @see #getDouble(ArrayLike, int)
+	 * @see Js#getInt(ArrayLike, int)
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	protected abstract int getInt(ArrayLike<?> a, int i);
+	/**
+	 * <p>Gets an array element as a <tt>double</tt> value without boxing it if possible.</p>
+	 * @param a The array.
+	 * @param i The array index of the element.
+	 * @return The element converted to a <tt>double</tt> value or <tt>NaN</tt> if it is undefined.
+	 * @see #getInt(ArrayLike, int)
+	 * @see Js#getDouble(ArrayLike, int)
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	protected abstract double getDouble(ArrayLike<?> a, int i);
+	/**
+	 * <p>Sets an array element to an <tt>int</tt> value without boxing it if possible.</p>
+	 * @param a The array.
+	 * @param i The array index of the element.
+	 * @param v The new value of the element.
+	 * @see #setDouble(ArrayLike, int, double)
+	 * @see Js#setInt(ArrayLike, int, int)
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	protected abstract void setInt(ArrayLike<?> a, int i, int v);
+	/**
+	 * <p>Sets an array element to a <tt>double</tt> value without boxing it if possible.</p>
+	 * @param a The array.
+	 * @param i The array index of the element.
+	 * @param v The new value of the element.
+	 * @see #setInt(ArrayLike, int, int)
+	 * @see Js#setDouble(ArrayLike, int, double)
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	protected abstract void setDouble(ArrayLike<?> a, int i, double v);
+	/**
+	 * <p>Creates an array of the results of calling a function on each element in a range 
+	 * of an array, possibly in parallel.</p>
+	 * @param a The array.
+	 * @param f The function called with an element and its array index.
+	 * @param from The array index of the first element.
+	 * @param to The array index after the last element.
+	 * @return The newly created array of the results.
+	 * @see Js#map(ArrayLike, JsFunction, int, int)
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	protected abstract <T> ArrayLike<T> map(ArrayLike<?> a, JsFunction<T> f, int from, int to);
+	/**
+	 * <p>Creates an array of the elements in a range of an array for which a function 
+	 * evaluates to <tt>true</tt>, possibly calling the function in parallel.</p>
+	 * @param a The array.
+	 * @param f The function called with an element and its array index.
+	 * @param from The array index of the first element.
+	 * @param to The array index after the last element.
+	 * @return The newly created array of the elements kept.
+	 * @see Js#filter(ArrayLike, JsFunction, int, int)
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	protected abstract <T> ArrayLike<T> filter(ArrayLike<T> a, JsFunction<?> f, int from, int to);
+	/**
+	 * <p>Folds the elements in a range of an array with a function, possibly folding 
+	 * parts of the range in parallel.</p>
+	 * @param a The array.
+	 * @param f The function called with the value accumulated so far and an element.
+	 * @param initial The initial value.
+	 * @param from The array index of the first element.
+	 * @param to The array index after the last element.
+	 * @return The accumulated value.
+	 * @see Js#reduce(ArrayLike, JsFunction, Object, int, int)
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	protected abstract <T> T reduce(ArrayLike<?> a, JsFunction<T> f, Object initial, int from, int to);
+	/**
+	 * <p>Calls a function on each element in a range of an array, possibly in parallel.</p>
+	 * @param a The array.
+	 * @param f The function called with an element and its array index.
+	 * @param from The array index of the first element.
+	 * @param to The array index after the last element.
+	 * @see Js#forEach(ArrayLike, JsFunction, int, int)
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	protected abstract void forEach(ArrayLike<?> a, JsFunction<?> f, int from, int to);
+	/**
+	 * <p>Searches a range of an array for the first element equal to a value, possibly 
+	 * in parallel.</p>
+	 * @param a The array.
+	 * @param v The value to search for.
+	 * @param from The array index of the first element.
+	 * @param to The array index after the last element.
+	 * @return The array index of the first element found or <tt>-1</tt> if none is found.
+	 * @see Js#indexOf(ArrayLike, Object, int, int)
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	protected abstract int indexOf(ArrayLike<?> a, Object v, int from, int to);
 	/**
 	 * <p>Creates a date object set to the current system date and time.</p>
 	 * @return The newly created date object.
@@ -988,6 +1114,18 @@ public abstract class Sim extends Var<Void>
 	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
 	 */
 	protected abstract Number getNumber(Object var);
+
+	/**
+	 * <p>Converts a number to a string, resembling the conversion of numbers to strings in 
+	 * JavaScript.</p>
+	 * @param var A number.
+	 * @return The shortest string representation of the number that reads back as the 
+	 * same number.
+	 * @see Js#toString(Object)
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	protected abstract String toString(Number var);
 	/**
 	 * <p>Performs unary negation, resembling the unary minus operator in JavaScript.</p>
 	 * <p>This operation converts a positive value to an equivalently negative value, and 
@@ -1052,6 +1190,63 @@ public abstract class Sim extends Var<Void>
 	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
 	 */
 	protected abstract Number div(Number var, Number other);
+	/**
+	 * <p>Performs unary negation on a primitive number, resembling the unary minus operator 
+	 * in JavaScript. The operation is performed without boxing the numbers or the 
+	 * result.</p>
+	 * @param var A number.
+	 * @return The negation of the number.
+	 * @see #neg(Number)
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	protected abstract double neg(double var);
+	/**
+	 * <p>Adds primitive numbers, resembling the addition operator in JavaScript. The 
+	 * operation is performed without boxing the numbers or the result.</p>
+	 * @param var A number.
+	 * @param other A number.
+	 * @return The sum of the two numbers.
+	 * @see #add(Number, Number)
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	protected abstract double add(double var, double other);
+	/**
+	 * <p>Computes the first primitive number modulo the second, resembling the modulo 
+	 * operator in JavaScript. The operation is performed without boxing the numbers or the 
+	 * result.</p>
+	 * @param var A number.
+	 * @param other A number.
+	 * @return The remainder.
+	 * @see #mod(Number, Number)
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	protected abstract double mod(double var, double other);
+	/**
+	 * <p>Multiplies primitive numbers, resembling the multiplication operator in JavaScript. 
+	 * The operation is performed without boxing the numbers or the result.</p>
+	 * @param var A number.
+	 * @param other A number.
+	 * @return The product of the two numbers.
+	 * @see #mul(Number, Number)
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	protected abstract double mul(double var, double other);
+	/**
+	 * <p>Divides the first primitive number by the second, resembling the division operator 
+	 * in JavaScript. The operation is performed without boxing the numbers or the 
+	 * result.</p>
+	 * @param var A number.
+	 * @param other A number.
+	 * @return The quotient of the two numbers.
+	 * @see #div(Number, Number)
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	protected abstract double div(double var, double other);
 	/**
 	 * <p>Checks if the first operand is the name of a property of the second, resembling 
 	 * the <tt>in</tt> operator in JavaScript.</p>
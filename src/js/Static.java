@@ -63,6 +63,11 @@ public final class Static<T> extends Var<T>
 	 */
 	@Override
 	public final T var() {
+		Context c = Context.current();
+		if (c != null) {
+			T v = c.get(this);
+			return v != null ? v : c.put(this, var.var());
+		}
 		return t != null ? t : (t = var.var());
 	}
 
@@ -137,6 +137,7 @@ public class Value<T> extends Var<T>
 	}
 
 	private T value;
+	private boolean unboxed;
 
 	/**
 	 * <p>Internally constructs a primitive instance from a primitive value.</p>
@@ -177,6 +178,7 @@ public class Value<T> extends Var<T>
 	 */
 	public final T var(T value) {
 		this.value = value;
+		unboxed = false;
 		return value;
 	}
 	/**
@@ -207,6 +209,14 @@ public class Value<T> extends Var<T>
 	 */
 	@Override
 	public final T var() {
+		if (unboxed) {
+			value = box();
+			unboxed = false;
+		}
+		return value;
+	}
+
+	T box() {
 		return value;
 	}
 
@@ -2789,6 +2799,15 @@ public class Value<T> extends Var<T>
 			super(Js.toString(value));
 		}
 
+		private StringBuilder rope;
+		private java.lang.String flat;
+
+		@Override
+		final java.lang.String box() {
+			flat = rope.toString();
+			return flat;
+		}
+
 		/**
 		 * <p>Returns the primitive value associated with the current instance, if there is one.</p>
 		 * @return The primitive value associated with the current instance.
@@ -3304,6 +3323,7 @@ public class Value<T> extends Var<T>
 		 * method and/or the {@link Js#toString(Object)} method on the object.</p>
 		 * @param other A value or object.
 		 * @return The string value of the argument.
+		 * @see #append(Object)
 		 * @since 1.0
 		 * @javascript Re-compilers must replace the instance invocation of this method with the 
 		 * JavaScript expression:
@@ -3314,6 +3334,38 @@ public class Value<T> extends Var<T>
 			return var((java.lang.String)Js.add(var(), other));
 		}
 
+		/**
+		 * <p>Concatenates a string operand to the current primitive instance and returns 
+		 * the current primitive instance, like {@link #aadd(Object)} but without building 
+		 * the resulting string.</p>
+		 * <p>In JS Simulation, successive concatenations are buffered and the resulting string 
+		 * is not built until the primitive value is read, so this method is the one to use 
+		 * for building a string in a loop.</p>
+		 * @param other A value or object.
+		 * @return The current primitive instance.
+		 * @see #aadd(Object)
+		 * @since 1.0
+		 * @javascript Re-compilers must replace the instance invocation of this method with the 
+		 * JavaScript expression:
+		 * <pre>(p += other, p)</pre>
+		 * where <tt>p</tt> is the current primitive instance of the invocation of this method.
+		 */
+		public final String append(Object other) {
+			if (!super.unboxed) {
+				java.lang.String s = var();
+				if (s == null) {
+					var((java.lang.String)Js.add(s, other));
+					return this;
+				}
+				if (s != flat) {
+					rope = new StringBuilder(s);
+				}
+			}
+			rope.append(Js.toString(other));
+			super.unboxed = true;
+			return this;
+		}
+
 		/**
 		 * <p>Evaluates the current primitive string instance as JavaScript code and 
 		 * returns the result.</p>
@@ -3370,7 +3422,7 @@ public class Value<T> extends Var<T>
 		 * where <tt>s</tt> is the current string instance of the invocation.
 		 */
 		public final int length() {
-			return var().length();
+			return super.unboxed ? rope.length() : var().length();
 		}
 		/**
 		 * <p>Returns the character string of length 1 at the specified <tt>index</tt> within 
@@ -4167,10 +4219,38 @@ public class Value<T> extends Var<T>
 
 	public static abstract class Numerical<T> extends Value<T>
 	{
+		private double num;
+
 		protected Numerical(T value) {
 			super(value);
 		}
 
+		abstract T box(double v);
+
+		@Override
+		final T box() {
+			return box(num);
+		}
+
+		final double num() {
+			return super.unboxed ? num : operand(var());
+		}
+
+		final void num(double v) {
+			num = v;
+			super.unboxed = true;
+		}
+
+		static final double operand(Object v) {
+			v = Js.valueOf(v);
+			return v == null ? java.lang.Double.NaN : v instanceof java.lang.Character ?
+					(short)((java.lang.Character)v).charValue() : ((java.lang.Number)v).doubleValue();
+		}
+
+		static final int toInt(double v) {
+			return v <= 9007199254740992.0 && v >= -9007199254740992.0 ? (int)(long)v : (int)v;
+		}
+
 		/**
 		 * <p>Adds the current primitive instance to a numeric operand or concatenates it with 
 		 * a string operand, resembling the addition operator in JavaScript.</p>
@@ -5135,6 +5215,11 @@ public class Value<T> extends Var<T>
 			super((char)value.var().shortValue());
 		}
 
+		@Override
+		final java.lang.Character box(double v) {
+			return java.lang.Character.valueOf((char)(int)v);
+		}
+
 		/**
 		 * <p>Performs unary negation, resembling the unary minus operator in JavaScript.</p>
 		 * <p>This operation converts a positive value to an equivalently negative value, and 
@@ -5163,7 +5248,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Character inc() {
-			var((char)Js.add(var(), 1).shortValue());
+			num((short)toInt(Js.s().add(num(), 1)));
 			return this;
 		}
 
@@ -5179,7 +5264,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Character dec() {
-			var((char)Js.sub(var(), 1).shortValue());
+			num((short)toInt(Js.s().add(num(), -1)));
 			return this;
 		}
 
@@ -5196,8 +5281,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Character incp() {
-			java.lang.Character v = var();
-			var((char)Js.add(v, 1).shortValue());
+			num((short)toInt(Js.s().add(num(), 1)));
 			return this;
 		}
 
@@ -5214,8 +5298,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Character decp() {
-			java.lang.Character v = var();
-			var((char)Js.sub(v, 1).shortValue());
+			num((short)toInt(Js.s().add(num(), -1)));
 			return this;
 		}
 
@@ -5236,12 +5319,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Character aadd(Object value) {
-			Object v = Js.valueOf(value);
-			var(
-					v instanceof java.lang.Character ?
-					(char)Js.add(this.var(),  (java.lang.Character)v).shortValue() :
-					(char)Js.add(this.var(),  (java.lang.Number)v).shortValue()
-			);
+			num((short)toInt(Js.s().add(num(), operand(value))));
 			return this;
 		}
 
@@ -5260,12 +5338,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Character asub(Object value) {
-			Object v = Js.valueOf(value);
-			var(
-					v instanceof java.lang.Character ?
-					(char)Js.sub(var(),  (java.lang.Character)v).shortValue() :
-					(char)Js.sub(var(),  (java.lang.Number)v).shortValue()
-			);
+			num((short)toInt(Js.s().add(num(), -operand(value))));
 			return this;
 		}
 
@@ -5284,11 +5357,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Character amul(Object value) {
-			Object v = Js.valueOf(value);
-			var(v instanceof java.lang.Character ?
-					(char)Js.mul(var(),  (java.lang.Character)v).shortValue() :
-					(char)Js.mul(var(),  (java.lang.Number)v).shortValue()
-			);
+			num((short)toInt(Js.s().mul(num(), operand(value))));
 			return this;
 		}
 
@@ -5311,11 +5380,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Character adiv(Object value) {
-			Object v = Js.valueOf(value);
-			var(v instanceof java.lang.Character ?
-					(char)Js.div(var(),  (java.lang.Character)v).shortValue() :
-					(char)Js.div(var(),  (java.lang.Number)v).shortValue()
-			);
+			num((short)toInt(Js.s().div(num(), operand(value))));
 			return this;
 		}
 
@@ -5339,11 +5404,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Character amod(Object value) {
-			Object v = Js.valueOf(value);
-			var(v instanceof java.lang.Character ?
-					(char)Js.mod(var(),  (java.lang.Character)v).shortValue() :
-					(char)Js.mod(var(),  (java.lang.Number)v).shortValue()
-			);
+			num((short)toInt(Js.s().mod(num(), operand(value))));
 			return this;
 		}
 
@@ -6081,6 +6142,11 @@ public class Value<T> extends Var<T>
 			return var();
 		}
 
+		@Override
+		final java.lang.Number box(double v) {
+			return v == (int)v && (v != 0 || 1 / v > 0) ? (java.lang.Number)java.lang.Integer.valueOf((int)v) : java.lang.Double.valueOf(v);
+		}
+
 		/**
 		 * <p>Performs unary negation, resembling the unary minus operator in JavaScript.</p>
 		 * <p>This operation converts a positive value to an equivalently negative value, and 
@@ -6109,7 +6175,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Number inc() {
-			var(Js.add(var(), 1));
+			num(Js.s().add(num(), 1));
 			return this;
 		}
 
@@ -6125,7 +6191,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Number dec() {
-			var(Js.sub(var(), 1));
+			num(Js.s().add(num(), -1));
 			return this;
 		}
 
@@ -6142,8 +6208,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Number incp() {
-			java.lang.Number v = var();
-			var(Js.add(v, 1));
+			num(Js.s().add(num(), 1));
 			return this;
 		}
 
@@ -6160,8 +6225,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Number decp() {
-			java.lang.Number v = var();
-			var(Js.sub(v, 1));
+			num(Js.s().add(num(), -1));
 			return this;
 		}
 
@@ -6182,11 +6246,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Number aadd(Object value) {
-			Object v = Js.valueOf(value);
-			var(v instanceof java.lang.Character ?
-					Js.add(var(),  (java.lang.Character)v) :
-					Js.add(var(),  (java.lang.Number)v)
-			);
+			num(Js.s().add(num(), operand(value)));
 			return this;
 		}
 
@@ -6205,11 +6265,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Number asub(Object value) {
-			Object v = Js.valueOf(value);
-			var(v instanceof java.lang.Character ?
-					Js.sub(var(),  (java.lang.Character)v) :
-					Js.sub(var(),  (java.lang.Number)v)
-			);
+			num(Js.s().add(num(), -operand(value)));
 			return this;
 		}
 
@@ -6228,11 +6284,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Number amul(Object value) {
-			Object v = Js.valueOf(value);
-			var(v instanceof java.lang.Character ?
-					Js.mul(var(),  (java.lang.Character)v) :
-					Js.mul(var(),  (java.lang.Number)v)
-			);
+			num(Js.s().mul(num(), operand(value)));
 			return this;
 		}
 
@@ -6255,11 +6307,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Number adiv(Object value) {
-			Object v = Js.valueOf(value);
-			var(v instanceof java.lang.Character ?
-					Js.div(var(),  (java.lang.Character)v) :
-					Js.div(var(),  (java.lang.Number)v)
-			);
+			num(Js.s().div(num(), operand(value)));
 			return this;
 		}
 
@@ -6283,11 +6331,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Number amod(Object value) {
-			Object v = Js.valueOf(value);
-			var(v instanceof java.lang.Character ?
-					Js.mod(var(),  (java.lang.Character)v) :
-					Js.mod(var(),  (java.lang.Number)v)
-			);
+			num(Js.s().mod(num(), operand(value)));
 			return this;
 		}
 
@@ -7015,6 +7059,11 @@ public class Value<T> extends Var<T>
 			return var();
 		}
 
+		@Override
+		final java.lang.Byte box(double v) {
+			return java.lang.Byte.valueOf((byte)v);
+		}
+
 		/**
 		 * <p>Performs unary negation, resembling the unary minus operator in JavaScript.</p>
 		 * <p>This operation converts a positive value to an equivalently negative value, and 
@@ -7043,7 +7092,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Byte inc() {
-			var(Js.add(var(), 1).byteValue());
+			num((byte)toInt(Js.s().add(num(), 1)));
 			return this;
 		}
 
@@ -7059,7 +7108,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Byte dec() {
-			var(Js.sub(var(), 1).byteValue());
+			num((byte)toInt(Js.s().add(num(), -1)));
 			return this;
 		}
 
@@ -7076,8 +7125,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Byte incp() {
-			java.lang.Byte v = var();
-			var(Js.add(v, 1).byteValue());
+			num((byte)toInt(Js.s().add(num(), 1)));
 			return this;
 		}
 
@@ -7094,8 +7142,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Byte decp() {
-			java.lang.Byte v = var();
-			var(Js.sub(v, 1).byteValue());
+			num((byte)toInt(Js.s().add(num(), -1)));
 			return this;
 		}
 
@@ -7116,11 +7163,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Byte aadd(Object value) {
-			Object v = Js.valueOf(value);
-			var(v instanceof java.lang.Character ?
-					Js.add(var(),  (java.lang.Character)v).byteValue() :
-					Js.add(var(),  (java.lang.Number)v).byteValue()
-			);
+			num((byte)toInt(Js.s().add(num(), operand(value))));
 			return this;
 		}
 
@@ -7139,11 +7182,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Byte asub(Object value) {
-			Object v = Js.valueOf(value);
-			var(v instanceof java.lang.Character ?
-					Js.sub(var(),  (java.lang.Character)v).byteValue() :
-					Js.sub(var(),  (java.lang.Number)v).byteValue()
-			);
+			num((byte)toInt(Js.s().add(num(), -operand(value))));
 			return this;
 		}
 
@@ -7162,11 +7201,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Byte amul(Object value) {
-			Object v = Js.valueOf(value);
-			var(v instanceof java.lang.Character ?
-					Js.mul(var(),  (java.lang.Character)v).byteValue() :
-					Js.mul(var(),  (java.lang.Number)v).byteValue()
-			);
+			num((byte)toInt(Js.s().mul(num(), operand(value))));
 			return this;
 		}
 
@@ -7189,11 +7224,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Byte adiv(Object value) {
-			Object v = Js.valueOf(value);
-			var(v instanceof java.lang.Character ?
-					Js.div(var(),  (java.lang.Character)v).byteValue() :
-					Js.div(var(),  (java.lang.Number)v).byteValue()
-			);
+			num((byte)toInt(Js.s().div(num(), operand(value))));
 			return this;
 		}
 
@@ -7217,11 +7248,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Byte amod(Object value) {
-			Object v = Js.valueOf(value);
-			var(v instanceof java.lang.Character ?
-					Js.mod(var(),  (java.lang.Character)v).byteValue() :
-					Js.mod(var(),  (java.lang.Number)v).byteValue()
-			);
+			num((byte)toInt(Js.s().mod(num(), operand(value))));
 			return this;
 		}
 
@@ -7970,6 +7997,11 @@ public class Value<T> extends Var<T>
 			return var();
 		}
 
+		@Override
+		final java.lang.Short box(double v) {
+			return java.lang.Short.valueOf((short)v);
+		}
+
 		/**
 		 * <p>Performs unary negation, resembling the unary minus operator in JavaScript.</p>
 		 * <p>This operation converts a positive value to an equivalently negative value, and 
@@ -7998,7 +8030,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Short inc() {
-			var(Js.add(var(), 1).shortValue());
+			num((short)toInt(Js.s().add(num(), 1)));
 			return this;
 		}
 
@@ -8014,7 +8046,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Short dec() {
-			var(Js.sub(var(), 1).shortValue());
+			num((short)toInt(Js.s().add(num(), -1)));
 			return this;
 		}
 
@@ -8031,8 +8063,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Short incp() {
-			java.lang.Short v = var();
-			var(Js.add(v, 1).shortValue());
+			num((short)toInt(Js.s().add(num(), 1)));
 			return this;
 		}
 
@@ -8049,8 +8080,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Short decp() {
-			java.lang.Short v = var();
-			var(Js.sub(v, 1).shortValue());
+			num((short)toInt(Js.s().add(num(), -1)));
 			return this;
 		}
 
@@ -8071,11 +8101,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Short aadd(Object value) {
-			Object v = Js.valueOf(value);
-			var(v instanceof java.lang.Character ?
-					Js.add(var(),  (java.lang.Character)v).shortValue() :
-					Js.add(var(),  (java.lang.Number)v).shortValue()
-			);
+			num((short)toInt(Js.s().add(num(), operand(value))));
 			return this;
 		}
 
@@ -8094,11 +8120,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Short asub(Object value) {
-			Object v = Js.valueOf(value);
-			var(v instanceof java.lang.Character ?
-					Js.sub(var(),  (java.lang.Character)v).shortValue() :
-					Js.sub(var(),  (java.lang.Number)v).shortValue()
-			);
+			num((short)toInt(Js.s().add(num(), -operand(value))));
 			return this;
 		}
 
@@ -8117,11 +8139,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Short amul(Object value) {
-			Object v = Js.valueOf(value);
-			var(v instanceof java.lang.Character ?
-					Js.mul(var(),  (java.lang.Character)v).shortValue() :
-					Js.mul(var(),  (java.lang.Number)v).shortValue()
-			);
+			num((short)toInt(Js.s().mul(num(), operand(value))));
 			return this;
 		}
 
@@ -8144,11 +8162,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Short adiv(Object value) {
-			Object v = Js.valueOf(value);
-			var(v instanceof java.lang.Character ?
-					Js.div(var(),  (java.lang.Character)v).shortValue() :
-					Js.div(var(),  (java.lang.Number)v).shortValue()
-			);
+			num((short)toInt(Js.s().div(num(), operand(value))));
 			return this;
 		}
 
@@ -8172,11 +8186,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Short amod(Object value) {
-			Object v = Js.valueOf(value);
-			var(v instanceof java.lang.Character ?
-					Js.mod(var(),  (java.lang.Character)v).shortValue() :
-					Js.mod(var(),  (java.lang.Number)v).shortValue()
-			);
+			num((short)toInt(Js.s().mod(num(), operand(value))));
 			return this;
 		}
 
@@ -8948,6 +8958,11 @@ public class Value<T> extends Var<T>
 			return var();
 		}
 
+		@Override
+		final java.lang.Integer box(double v) {
+			return java.lang.Integer.valueOf((int)v);
+		}
+
 		/**
 		 * <p>Performs unary negation, resembling the unary minus operator in JavaScript.</p>
 		 * <p>This operation converts a positive value to an equivalently negative value, and 
@@ -8976,7 +8991,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Integer inc() {
-			var(Js.add(var(), 1).intValue());
+			num(toInt(Js.s().add(num(), 1)));
 			return this;
 		}
 
@@ -8992,7 +9007,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Integer dec() {
-			var(Js.sub(var(), 1).intValue());
+			num(toInt(Js.s().add(num(), -1)));
 			return this;
 		}
 
@@ -9009,8 +9024,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Integer incp() {
-			java.lang.Integer v = var();
-			var(Js.add(v, 1).intValue());
+			num(toInt(Js.s().add(num(), 1)));
 			return this;
 		}
 
@@ -9027,8 +9041,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Integer decp() {
-			java.lang.Integer v = var();
-			var(Js.sub(v, 1).intValue());
+			num(toInt(Js.s().add(num(), -1)));
 			return this;
 		}
 
@@ -9049,11 +9062,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Integer aadd(Object value) {
-			Object v = Js.valueOf(value);
-			var(v instanceof java.lang.Character ?
-					Js.add(var(),  (java.lang.Character)v).intValue() :
-					Js.add(var(),  (java.lang.Number)v).intValue()
-			);
+			num(toInt(Js.s().add(num(), operand(value))));
 			return this;
 		}
 
@@ -9072,11 +9081,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Integer asub(Object value) {
-			Object v = Js.valueOf(value);
-			var(v instanceof java.lang.Character ?
-					Js.sub(var(),  (java.lang.Character)v).intValue() :
-					Js.sub(var(),  (java.lang.Number)v).intValue()
-			);
+			num(toInt(Js.s().add(num(), -operand(value))));
 			return this;
 		}
 
@@ -9095,11 +9100,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Integer amul(Object value) {
-			Object v = Js.valueOf(value);
-			var(v instanceof java.lang.Character ?
-					Js.mul(var(),  (java.lang.Character)v).intValue() :
-					Js.mul(var(),  (java.lang.Number)v).intValue()
-			);
+			num(toInt(Js.s().mul(num(), operand(value))));
 			return this;
 		}
 
@@ -9122,11 +9123,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Integer adiv(Object value) {
-			Object v = Js.valueOf(value);
-			var(v instanceof java.lang.Character ?
-					Js.div(var(),  (java.lang.Character)v).intValue() :
-					Js.div(var(),  (java.lang.Number)v).intValue()
-			);
+			num(toInt(Js.s().div(num(), operand(value))));
 			return this;
 		}
 
@@ -9150,11 +9147,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Integer amod(Object value) {
-			Object v = Js.valueOf(value);
-			var(v instanceof java.lang.Character ?
-					Js.mod(var(),  (java.lang.Character)v).intValue() :
-					Js.mod(var(),  (java.lang.Number)v).intValue()
-			);
+			num(toInt(Js.s().mod(num(), operand(value))));
 			return this;
 		}
 
@@ -9881,6 +9874,11 @@ public class Value<T> extends Var<T>
 			return var();
 		}
 
+		@Override
+		final java.lang.Long box(double v) {
+			return java.lang.Long.valueOf((long)v);
+		}
+
 		/**
 		 * <p>Performs unary negation on a 64-bit integer.</p>
 		 * <p>This operation converts a positive value to an equivalently negative value, and 
@@ -10894,6 +10892,11 @@ public class Value<T> extends Var<T>
 			return var();
 		}
 
+		@Override
+		final java.lang.Float box(double v) {
+			return java.lang.Float.valueOf((float)v);
+		}
+
 		/**
 		 * <p>Performs unary negation, resembling the unary minus operator in JavaScript.</p>
 		 * <p>This operation converts a positive value to an equivalently negative value, and 
@@ -10922,7 +10925,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Float inc() {
-			var(Js.add(var(), 1).floatValue());
+			num((float)Js.s().add(num(), 1));
 			return this;
 		}
 
@@ -10938,7 +10941,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Float dec() {
-			var(Js.sub(var(), 1).floatValue());
+			num((float)Js.s().add(num(), -1));
 			return this;
 		}
 
@@ -10955,8 +10958,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Float incp() {
-			java.lang.Float v = var();
-			var(Js.add(v, 1).floatValue());
+			num((float)Js.s().add(num(), 1));
 			return this;
 		}
 
@@ -10973,8 +10975,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Float decp() {
-			java.lang.Float v = var();
-			var(Js.sub(v, 1).floatValue());
+			num((float)Js.s().add(num(), -1));
 			return this;
 		}
 
@@ -10995,11 +10996,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Float aadd(Object value) {
-			Object v = Js.valueOf(value);
-			var(v instanceof java.lang.Character ?
-					Js.add(var(),  (java.lang.Character)v).floatValue() :
-					Js.add(var(),  (java.lang.Number)v).floatValue()
-			);
+			num((float)Js.s().add(num(), operand(value)));
 			return this;
 		}
 
@@ -11018,11 +11015,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Float asub(Object value) {
-			Object v = Js.valueOf(value);
-			var(v instanceof java.lang.Character ?
-					Js.sub(var(),  (java.lang.Character)v).floatValue() :
-					Js.sub(var(),  (java.lang.Number)v).floatValue()
-			);
+			num((float)Js.s().add(num(), -operand(value)));
 			return this;
 		}
 
@@ -11041,11 +11034,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Float amul(Object value) {
-			Object v = Js.valueOf(value);
-			var(v instanceof java.lang.Character ?
-					Js.mul(var(),  (java.lang.Character)v).floatValue() :
-					Js.mul(var(),  (java.lang.Number)v).floatValue()
-			);
+			num((float)Js.s().mul(num(), operand(value)));
 			return this;
 		}
 
@@ -11068,11 +11057,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Float adiv(Object value) {
-			Object v = Js.valueOf(value);
-			var(v instanceof java.lang.Character ?
-					Js.div(var(),  (java.lang.Character)v).floatValue() :
-					Js.div(var(),  (java.lang.Number)v).floatValue()
-			);
+			num((float)Js.s().div(num(), operand(value)));
 			return this;
 		}
 
@@ -11096,11 +11081,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Float amod(Object value) {
-			Object v = Js.valueOf(value);
-			var(v instanceof java.lang.Character ?
-					Js.mod(var(),  (java.lang.Character)v).floatValue() :
-					Js.mod(var(),  (java.lang.Number)v).floatValue()
-			);
+			num((float)Js.s().mod(num(), operand(value)));
 			return this;
 		}
 
@@ -11849,6 +11830,11 @@ public class Value<T> extends Var<T>
 			return var();
 		}
 
+		@Override
+		final java.lang.Double box(double v) {
+			return java.lang.Double.valueOf(v);
+		}
+
 		/**
 		 * <p>Performs unary negation, resembling the unary minus operator in JavaScript.</p>
 		 * <p>This operation converts a positive value to an equivalently negative value, and 
@@ -11877,7 +11863,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Double inc() {
-			var(Js.add(var(), 1).doubleValue());
+			num(Js.s().add(num(), 1));
 			return this;
 		}
 
@@ -11893,7 +11879,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Double dec() {
-			var(Js.sub(var(), 1).doubleValue());
+			num(Js.s().add(num(), -1));
 			return this;
 		}
 
@@ -11910,8 +11896,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Double incp() {
-			java.lang.Double v = var();
-			var(Js.add(v, 1).doubleValue());
+			num(Js.s().add(num(), 1));
 			return this;
 		}
 
@@ -11928,8 +11913,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Double decp() {
-			java.lang.Double v = var();
-			var(Js.sub(v, 1).doubleValue());
+			num(Js.s().add(num(), -1));
 			return this;
 		}
 
@@ -11950,11 +11934,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Double aadd(Object value) {
-			Object v = Js.valueOf(value);
-			var(v instanceof java.lang.Character ?
-					Js.add(var(),  (java.lang.Character)v).doubleValue() :
-					Js.add(var(),  (java.lang.Number)v).doubleValue()
-			);
+			num(Js.s().add(num(), operand(value)));
 			return this;
 		}
 
@@ -11973,11 +11953,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Double asub(Object value) {
-			Object v = Js.valueOf(value);
-			var(v instanceof java.lang.Character ?
-					Js.sub(var(),  (java.lang.Character)v).doubleValue() :
-					Js.sub(var(),  (java.lang.Number)v).doubleValue()
-			);
+			num(Js.s().add(num(), -operand(value)));
 			return this;
 		}
 
@@ -11996,11 +11972,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Double amul(Object value) {
-			Object v = Js.valueOf(value);
-			var(v instanceof java.lang.Character ?
-					Js.mul(var(),  (java.lang.Character)v).doubleValue() :
-					Js.mul(var(),  (java.lang.Number)v).doubleValue()
-			);
+			num(Js.s().mul(num(), operand(value)));
 			return this;
 		}
 
@@ -12023,11 +11995,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Double adiv(Object value) {
-			Object v = Js.valueOf(value);
-			var(v instanceof java.lang.Character ?
-					Js.div(var(),  (java.lang.Character)v).doubleValue() :
-					Js.div(var(),  (java.lang.Number)v).doubleValue()
-			);
+			num(Js.s().div(num(), operand(value)));
 			return this;
 		}
 
@@ -12051,11 +12019,7 @@ public class Value<T> extends Var<T>
 		 * invocation of this method.
 		 */
 		public final Double amod(Object value) {
-			Object v = Js.valueOf(value);
-			var(v instanceof java.lang.Character ?
-					Js.mod(var(),  (java.lang.Character)v).doubleValue() :
-					Js.mod(var(),  (java.lang.Number)v).doubleValue()
-			);
+			num(Js.s().mod(num(), operand(value)));
 			return this;
 		}
 
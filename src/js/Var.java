@@ -19,8 +19,10 @@
 
 package js;
 
-import java.util.HashMap;
+import java.lang.reflect.Constructor;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import js.core.*;
 
@@ -165,9 +167,27 @@ public abstract class Var<T> extends Disposable
 	public static final class Mid
 	{
 		private final String name;
+		private final int ordinal;
 
-		private Mid(String name) {
+		private Mid(String name, int ordinal) {
 			this.name = name;
+			this.ordinal = ordinal;
+		}
+
+		/**
+		 * <p>Returns the ordinal of the member, a dense integer that uniquely identifies 
+		 * the member ID in the current JVM.</p>
+		 * <p>Ordinals are assigned from zero in the order member IDs are first created, so 
+		 * they can be used directly as indexes into member-keyed tables.</p>
+		 * <p>This method is <b>internal</b> and only called inside of <b>opaque</b> or 
+		 * <b>internal</b> classes or class members.</p>
+		 *
+		 * @return The ordinal of the member.
+		 * @since 1.0
+		 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+		 */
+		public final int ordinal() {
+			return ordinal;
 		}
 
 		/**
@@ -197,7 +217,8 @@ public abstract class Var<T> extends Disposable
 	 */
 	protected static abstract class Members
 	{
-		private final static Map<String, Mid> members = new HashMap<String, Mid>();
+		private final static Map<String, Mid> members = new ConcurrentHashMap<String, Mid>();
+		private static int count;
 
 		/**
 		 * <p>Construct membership data for the enclosing <b>opaque</b> class.</p>
@@ -218,10 +239,17 @@ public abstract class Var<T> extends Disposable
 		 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
 		 */
 		public final static Mid id(String name) {
-			if (!members.containsKey(name)) {
-				members.put(name, new Mid(name));
+			Mid mid = members.get(name);
+			if (mid == null) {
+				synchronized(members) {
+					mid = members.get(name);
+					if (mid == null) {
+						mid = new Mid(name, count++);
+						members.put(name, mid);
+					}
+				}
 			}
-			return members.get(name);
+			return mid;
 		}
 	}
 
@@ -505,8 +533,48 @@ public abstract class Var<T> extends Disposable
 		 */
 		public abstract T wrap(Object o);
 
-		private final static Map<Class<? extends JsObject>, Generic<? extends JsObject>> objWrappers =
-		             new HashMap<Class<? extends JsObject>, Generic<? extends JsObject>>();
+		private static abstract class Wrapper<T extends JsObject> extends Generic<T>
+		{
+			protected final Class<T> cls;
+			private final Class<?>[] types;
+			private volatile Constructor<T> ctor;
+			private volatile boolean failed;
+
+			Wrapper(Class<T> cls, Class<?>... types) {
+				this.cls = cls;
+				this.types = types;
+			}
+
+			protected final T create(Object... args) {
+				Constructor<T> c = ctor;
+				if (c == null) {
+					if (failed) {
+						return null;
+					}
+					try {
+						c = cls.getConstructor(types);
+						try {
+							c.setAccessible(true);
+						} catch (SecurityException se) {
+						}
+						ctor = c;
+					} catch (Exception e) {
+						failed = true;
+						e.printStackTrace();
+						return null;
+					}
+				}
+				try {
+					return c.newInstance(args);
+				} catch (Exception e) {
+					e.printStackTrace();
+					return null;
+				}
+			}
+		}
+
+		private final static ConcurrentMap<Class<? extends JsObject>, Generic<? extends JsObject>> objWrappers =
+		             new ConcurrentHashMap<Class<? extends JsObject>, Generic<? extends JsObject>>();
 
 		/**
 		 * <p>Gets an object wrapper for a type.</p>
@@ -516,36 +584,31 @@ public abstract class Var<T> extends Disposable
 		 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
 		 */
 		@SuppressWarnings("unchecked")
-		public final static synchronized <T extends JsObject> Generic<T> get(final Class<T> cls) {
-			if (!objWrappers.containsKey(cls)) {
-				objWrappers.put(
-						cls,
-						new Generic<T>() {
-							@Override
-							public T wrap(Object o) {
-								if (o != null) {
-									Class<?> c = o.getClass();
-									if (JsObject.class.isAssignableFrom(cls) &&
-											!cls.isAssignableFrom(c)) {
-										try {
-											o = cls.getConstructor(
-													JsObject.class
-											).newInstance(o);
-										} catch (Exception e) {
-											e.printStackTrace();
-										}
-									}
-								}
-								return (T)o;
+		public final static <T extends JsObject> Generic<T> get(final Class<T> cls) {
+			Generic<T> g = (Generic<T>)objWrappers.get(cls);
+			if (g == null) {
+				g = new Wrapper<T>(cls, JsObject.class) {
+					@Override
+					public T wrap(Object o) {
+						if (o != null && !cls.isInstance(o)) {
+							T t = create(o);
+							if (t != null) {
+								return t;
 							}
 						}
-				);
+						return (T)o;
+					}
+				};
+				Generic<T> old = (Generic<T>)objWrappers.putIfAbsent(cls, g);
+				if (old != null) {
+					g = old;
+				}
 			}
-			return (Generic<T>)objWrappers.get(cls);
+			return g;
 		}
 
-		private final static Map<Class<? extends JsObject>, Map<Generic<?>, Generic<? extends JsObject>>> genWrappers =
-		             new HashMap<Class<? extends JsObject>, Map<Generic<?>, Generic<? extends JsObject>>>();
+		private final static ConcurrentMap<Class<? extends JsObject>, ConcurrentMap<Generic<?>, Generic<? extends JsObject>>> genWrappers =
+		             new ConcurrentHashMap<Class<? extends JsObject>, ConcurrentMap<Generic<?>, Generic<? extends JsObject>>>();
 
 		/**
 		 * <p>Gets a generic wrapper for a type with a wrapper for generic wrapping.</p>
@@ -556,35 +619,36 @@ public abstract class Var<T> extends Disposable
 		 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
 		 */
 		@SuppressWarnings("unchecked")
-		public final static synchronized <T extends JsObject> Generic<T> get(
+		public final static <T extends JsObject> Generic<T> get(
 				final Class<T> cls, final Generic<?> eWrapper) {
-			if (!genWrappers.containsKey(cls)) {
-				genWrappers.put(cls, new HashMap<Generic<?>, Generic<? extends JsObject>>());
+			ConcurrentMap<Generic<?>, Generic<? extends JsObject>> wrappers = genWrappers.get(cls);
+			if (wrappers == null) {
+				wrappers = new ConcurrentHashMap<Generic<?>, Generic<? extends JsObject>>();
+				ConcurrentMap<Generic<?>, Generic<? extends JsObject>> old = genWrappers.putIfAbsent(cls, wrappers);
+				if (old != null) {
+					wrappers = old;
+				}
 			}
-			Map<Generic<?>, Generic<? extends JsObject>> wrappers = genWrappers.get(cls);
-			if (!wrappers.containsKey(eWrapper)) {
-				wrappers.put(
-						eWrapper,
-						new Generic<T>() {
-							@Override
-							public T wrap(Object o) {
-								if (o != null) {
-									if (JsObject.class.isAssignableFrom(cls)) {
-										try {
-											o = cls.getConstructor(
-													JsObject.class, Generic.class
-											).newInstance(o, eWrapper);
-										} catch (Exception e) {
-											e.printStackTrace();
-										}
-									}
-								}
-								return (T)o;
+			Generic<T> g = (Generic<T>)wrappers.get(eWrapper);
+			if (g == null) {
+				g = new Wrapper<T>(cls, JsObject.class, Generic.class) {
+					@Override
+					public T wrap(Object o) {
+						if (o != null) {
+							T t = create(o, eWrapper);
+							if (t != null) {
+								return t;
 							}
 						}
-				);
+						return (T)o;
+					}
+				};
+				Generic<T> old = (Generic<T>)wrappers.putIfAbsent(eWrapper, g);
+				if (old != null) {
+					g = old;
+				}
 			}
-			return (Generic<T>)wrappers.get(eWrapper);
+			return g;
 		}
 
 		/**
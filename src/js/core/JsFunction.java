@@ -415,6 +415,20 @@ public class JsFunction<T> extends JsClass
 	public T invoke(Object arg) {
 		return var().invoke(arg);
 	}
+	/**
+	 * <p>Invokes the current function instance, passing the specified arguments.</p>
+	 * @param arg0 The first argument value.
+	 * @param arg1 The second argument value.
+	 * @return The return value of the invocation.
+	 * @since 1.0
+	 * @javascript Re-compilers must convert the instance invocation of this method into 
+	 * the JavaScript expression: 
+	 * <pre>f(arg0, arg1)</pre>
+	 * where <tt>f</tt> is the current function instance of the invocation of this method.
+	 */
+	public T invoke(Object arg0, Object arg1) {
+		return var().invoke(arg0, arg1);
+	}
 	/**
 	 * <p>Invokes the current function instance, passing the specified arguments.</p>
 	 * @param args The list of arguments.
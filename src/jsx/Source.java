@@ -24,7 +24,6 @@ import js.Id;
 import js.Initializer;
 import js.Js;
 import js.ObjectLike;
-import js.JsApplet;
 import js.Static;
 import js.Var;
 import js.Vars;
@@ -73,9 +72,35 @@ public abstract class Source extends Configurable
 
 	private final ObjectLike eventListeners = Js.object();
 
+	private final static Var<ObjectLike> LISTENED = new Static<ObjectLike>(
+			new Var<ObjectLike>() {
+				@Override
+				public ObjectLike var() {
+					return Js.object();
+				}
+			}
+	);
+
+	private final ObjectLike listened = LISTENED.var();
+
+	private final void listened(String type, int delta) {
+		synchronized(listened) {
+			Integer v = (Integer)listened.var(type);
+			int n = (Js.be(v) ? v.intValue() : 0) + delta;
+			if (n > 0) {
+				listened.var(type, n);
+			} else {
+				ObjectLikes.delete(listened, type);
+			}
+		}
+	}
+
 	/**
 	 * <p>Gets all listeners of the specified event type and registered with the specified 
 	 * event source.</p>
+	 * <p>The listeners of an event type are kept in an array which is replaced rather than 
+	 * modified when listeners are registered or unregistered, so the returned array is a 
+	 * snapshot shared with the source and must not be modified.</p>
 	 * @param src The event source to get listeners from.
 	 * @param et The event type to get listeners of.
 	 * @return An array of the event listeners of the type and registered with the source.
@@ -83,12 +108,8 @@ public abstract class Source extends Configurable
 	 */
 	@SuppressWarnings("unchecked")
 	public static final <T> ArrayLike<T> getListeners(Source src, Class<? extends Event<T>> et) {
-		String type = et.getName();
-		ObjectLike eventListeners = src.eventListeners;
-		synchronized(eventListeners) {
-			ArrayLike<T> typed = (ArrayLike<T>)eventListeners.var(type);
-			return Js.be(typed) ? ArrayLikes.slice(typed, 0) : new Vars<T>().var();
-		}
+		ArrayLike<T> typed = (ArrayLike<T>)src.eventListeners.var(et.getName());
+		return Js.be(typed) ? typed : new Vars<T>().var();
 	}
 
 	/**
@@ -107,21 +128,28 @@ public abstract class Source extends Configurable
 				ArrayLike<?> listeners = (ArrayLike<?>)eventListeners.var(type);
 				if (Variables.undefined(listeners)) {
 					listeners = new Vars<Object>().var();
-					eventListeners.var(type, listeners);
-				}
-				if (ArrayLikes.indexOf(listeners, on) == -1) {
-					ArrayLikes.push((ArrayLike<?>)eventListeners.var(type), on);
+					listened(type, 1);
+				} else if (ArrayLikes.indexOf(listeners, on) == -1) {
+					listeners = ArrayLikes.slice(listeners, 0);
+				} else {
+					return;
 				}
+				ArrayLikes.push(listeners, on);
+				eventListeners.var(type, listeners);
 			}
 		}
 	}
 
-	private static final void remove(ObjectLike eventListeners, String type, Object on) {
+	private final void remove(String type, Object on) {
 		ArrayLike<?> listeners = (ArrayLike<?>)eventListeners.var(type);
-		if (Js.be(listeners)) {
+		if (Js.be(listeners) && ArrayLikes.indexOf(listeners, on) != -1) {
+			listeners = ArrayLikes.slice(listeners, 0);
 			ArrayLikes.remove(listeners, on);
 			if (Js.not(ArrayLikes.length(listeners))) {
 				ObjectLikes.delete(eventListeners, type);
+				listened(type, -1);
+			} else {
+				eventListeners.var(type, listeners);
 			}
 		}
 	}
@@ -137,7 +165,7 @@ public abstract class Source extends Configurable
 				ArrayLike<String> types = Js.keys(eventListeners);
 				for (int i = 0, len = ArrayLikes.length(types); i < len; i++) {
 					String type = types.get(i);
-					remove(eventListeners, type, on);
+					remove(type, on);
 				}
 			}
 		}
@@ -156,7 +184,7 @@ public abstract class Source extends Configurable
 		if (Js.be(on)) {
 			String type = et.getName();
 			synchronized(eventListeners) {
-				remove(eventListeners, type, on);
+				remove(type, on);
 			}
 		}
 	}
@@ -169,8 +197,30 @@ public abstract class Source extends Configurable
 	 * @since 1.0
 	 */
 	public final <T> void removeListeners(Class<? extends Event<T>> et) {
+		String type = et.getName();
 		synchronized(eventListeners) {
-			ObjectLikes.delete(eventListeners, et.getName());
+			if (Js.be(eventListeners.var(type))) {
+				ObjectLikes.delete(eventListeners, type);
+				listened(type, -1);
+			}
+		}
+	}
+
+	/**
+	 * <p>Stops firing any events from this event source.</p>
+	 * <p>Events of a type are only dispatched while some event source has listeners for 
+	 * the type, so an event source that is no longer used but still has listeners should 
+	 * be cleared with this method before it is discarded.</p>
+	 * @since 1.0
+	 */
+	public final void removeListeners() {
+		synchronized(eventListeners) {
+			ArrayLike<String> types = Js.keys(eventListeners);
+			for (int i = 0, len = ArrayLikes.length(types); i < len; i++) {
+				String type = types.get(i);
+				ObjectLikes.delete(eventListeners, type);
+				listened(type, -1);
+			}
 		}
 	}
 
@@ -203,13 +253,17 @@ public abstract class Source extends Configurable
 	protected abstract Source getParent();
 
 	private static final <T> int execute(Event<T> evt) {
+		String type = evt.getClass().getName();
+		if (Js.not(LISTENED.var().var(type))) {
+			return 0;
+		}
 		Source src = ini(evt).var(Event.SOURCE);
 		int found = 0;
 		do {
-			found += execute(src, evt);
+			found += execute(src, type, evt);
 			Source e = src.unwrap();
 			if (Js.be(e) && Js.neq(src, e)) {
-				found += execute(e, evt);
+				found += execute(e, type, evt);
 			}
 			src = src.getParent();
 		} while (Js.be(ini(evt).var(Event.BUBBLE)) && Js.be(src));
@@ -217,11 +271,11 @@ public abstract class Source extends Configurable
 	}
 
 	@SuppressWarnings("unchecked")
-	private static final <T> int execute(Source src, Event<T> evt) {
-		ArrayLike<?> listeners = getListeners(
-				src,
-				(Class<? extends Event<T>>)evt.getClass()
-		);
+	private static final <T> int execute(Source src, String type, Event<T> evt) {
+		ArrayLike<?> listeners = (ArrayLike<?>)src.eventListeners.var(type);
+		if (Js.not(listeners)) {
+			return 0;
+		}
 		int len = ArrayLikes.length(listeners);
 		for (int i = 0; i < len; i++) {
 			evt.execute((T)listeners.get(i));
@@ -288,7 +342,7 @@ public abstract class Source extends Configurable
 	 * {@link #fire(Event)} instead of {@link #fire(Event, TaskManager)}.</p>
 	 * <p>Note that, the caller of this method will return immediately after raising the 
 	 * event without having to wait for the event task to run, and in JS Simulation mode 
-	 * the event can be run in a different thread than the caller of this method does.</p>
+	 * the event is run on the event loop thread of the simulation, one task at a time.</p>
 	 * @param evt The event being fired from this source.
 	 * @since 1.0
 	 * @see #fire(Event, TaskManager)
@@ -312,7 +366,7 @@ public abstract class Source extends Configurable
 	 * {@link #fire(Event)} instead of {@link #fire(Event, TaskManager)}.</p>
 	 * <p>Note that, the caller of this method will return immediately after raising the 
 	 * event without having to wait for the event task to run, and in JS Simulation mode 
-	 * the event can be run in a different thread as the caller of this method does.</p>
+	 * the event is run on the event loop thread of the simulation, one task at a time.</p>
 	 * @param evt The event being fired from this source.
 	 * @param dispatcher The event dispatcher to dispatch the fired event. 
 	 * @since 1.0
@@ -353,9 +407,7 @@ public abstract class Source extends Configurable
 
 		@Override
 		public void run() {
-			synchronized(JsApplet.class) {
-				execute(event);
-			}
+			execute(event);
 		}
 	}
 
@@ -28,21 +28,20 @@ import jsx.core.ArrayLikes;
 /**
  * <p>Facilitates multitasking features by queuing the submitted {@link Runnable} tasks 
  * and running them in the submitted order.</p>
- * <p>An instance of this class keeps a FIFO queue of {@link Runnable} objects. The task 
- * manager keeps popping a task from the head of the queue and runs it in the same thread. 
- * It falls into sleep when the queue becomes empty, taking up no CPU time and wakes up again 
- * when a new task is submitted. A call to the method {@link TaskManager#submit(Runnable)} 
- * on the task manager pushes the argument task to the tail of the queue in the calling thread.</p>
+ * <p>An instance of this class keeps a FIFO queue of {@link Runnable} objects. On each tick, 
+ * the task manager keeps popping tasks from the head of the queue and runs them in the same 
+ * thread until the queue becomes empty or the time budget of the tick is used up. If tasks 
+ * are left, the next tick is scheduled with a {@link Timeout}; otherwise the task manager 
+ * falls into sleep, with no timer set and taking up no CPU time, and wakes up again when a new 
+ * task is submitted. A call to the method {@link TaskManager#submit(Runnable)} on the task 
+ * manager pushes the argument task to the tail of the queue in the calling thread.</p>
  * <p>This class provides a simple but efficient mechanism for multitasking needs, which is 
  * used by the {@link Source} class to implement a high level event model. Note that, the 
- * re-compiled JavaScript code is to be run in a single thread. However, in JS Simulation 
- * mode, the scenario is quite different: the tasks submitted to the same task manager are 
- * being run in the single thread, but the tasks submitted to different task managers are 
- * being run in different threads. This is because this class creates an {@link Interval} 
- * object for its periodic executions. {@link Interval} calls the {@link jsx.client.Global#setInterval(js.core.JsFunction, Number)} 
- * method which calls the {@link js.Js#setInterval(js.core.JsFunction, Number)} method which 
- * is simulating JavaScript in Java multi-thread environment and creates a new thread whenever 
- * called. The whole thing is designed deliberately for the efficiency for JS Simulation.</p>
+ * re-compiled JavaScript code is to be run in a single thread. In JS Simulation mode, the 
+ * ticks are timer callbacks too, see {@link js.Js#setTimeout(js.core.JsFunction, Number)}, 
+ * which are run one after another by the simulation.</p>
+ * <p>The task manager also keeps some metrics of its queue, such as the peak queue depth 
+ * and the latencies of the tasks from their submission to their execution.</p>
  * <p>Note that, this class is <tt>final</tt> and not extensible.</p>
  * 
  * @author <a href="mailto:jianjunliu@126.com">J.J.Liu (Jianjun Liu)</a> at <a href="http://www.jscripter.org" target="_blank">http://www.jscripter.org</a>
@@ -50,24 +49,34 @@ import jsx.core.ArrayLikes;
  */
 public final class TaskManager extends Disposable
 {
+	/**
+	 * <p>The default time budget in milliseconds of a tick.</p>
+	 * @since 1.0
+	 */
+	public static final int BUDGET = 10;
+
 	private Number interval;
-	private ArrayLike<Runnable> queue = new Vars<Runnable>().var();
-	private int start = 0;
-	private final Interval timer;
+	private Number budget = BUDGET;
+	private final ArrayLike<Runnable> queue = new Vars<Runnable>().var();
+	private final ArrayLike<Number> times = new Vars<Number>().var();
+	private final Timeout timer;
+	private boolean running;
+	private int maxSize;
+	private int count;
+	private double latency;
+	private double maxLatency;
 
 	/**
 	 * <p>The default constructor.</p>
 	 * @see #TaskManager(Number)
+	 * @see #TaskManager(Number, Number)
 	 * @since 1.0
 	 */
 	public TaskManager() {
-		timer = new Interval() {
+		timer = new Timeout() {
 			@Override
 			public void run() {
-				Runnable r = poll();
-				if (Js.be(r)) {
-					r.run();
-				}
+				tick();
 			}
 		};
 	}
@@ -76,6 +85,7 @@ public final class TaskManager extends Disposable
 	 * <p>The typical constructor.</p>
 	 * @param interval The interval in milliseconds to run the submitted tasks.
 	 * @see #TaskManager()
+	 * @see #TaskManager(Number, Number)
 	 * @since 1.0
 	 */
 	public TaskManager(Number interval) {
@@ -83,13 +93,68 @@ public final class TaskManager extends Disposable
 		this.interval = interval;
 	}
 
+	/**
+	 * <p>Constructs a task manager with a time budget for its ticks.</p>
+	 * @param interval The interval in milliseconds to run the submitted tasks.
+	 * @param budget The time budget in milliseconds of a tick. A tick runs one task at 
+	 * least and stops running more once it has taken this time. If it is <tt>0</tt>, a 
+	 * tick runs exactly one task.
+	 * @see #TaskManager()
+	 * @see #TaskManager(Number)
+	 * @since 1.0
+	 */
+	public TaskManager(Number interval, Number budget) {
+		this(interval);
+		budget(budget);
+	}
+
+	private static final double now() {
+		return Js.date().getTime().doubleValue();
+	}
+
+	private final void tick() {
+		double now = now();
+		double end = now + budget.doubleValue();
+		for (Runnable r = poll(now); Js.be(r); r = poll(now)) {
+			r.run();
+			now = now();
+			if (now >= end) {
+				break;
+			}
+		}
+		schedule();
+	}
+
+	private final synchronized void schedule() {
+		if (size() > 0) {
+			if (Js.be(interval)) {
+				timer.set(interval);
+			} else {
+				timer.set();
+			}
+		} else {
+			running = false;
+		}
+	}
+
+	/**
+	 * <p>Sets the time budget of the ticks of the task manager.</p>
+	 * @param budget The time budget in milliseconds of a tick. A tick runs one task at 
+	 * least and stops running more once it has taken this time. If it is <tt>0</tt>, a 
+	 * tick runs exactly one task.
+	 * @since 1.0
+	 */
+	public final synchronized void budget(Number budget) {
+		this.budget = Js.be(budget) ? budget : 0;
+	}
+
 	/**
 	 * <p>Checks if the task manager is idle.</p>
 	 * @return <tt>true</tt> if the task manager is idle; <tt>false</tt> otherwise.
 	 * @since 1.0
 	 */
 	public final synchronized boolean idle() {
-		return !timer.isRunning();
+		return !running;
 	}
 
 	/**
@@ -98,26 +163,67 @@ public final class TaskManager extends Disposable
 	 * @since 1.0
 	 */
 	public final synchronized int size() {
-		return ArrayLikes.length(queue) - start;
+		return ArrayLikes.length(queue);
+	}
+
+	/**
+	 * <p>Returns the peak number of the pending tasks this task manager has had.</p>
+	 * @return The peak size of the pending tasks.
+	 * @since 1.0
+	 */
+	public final synchronized int maxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * <p>Returns the number of the tasks this task manager has run or handed out with 
+	 * {@link #poll()}.</p>
+	 * @return The number of the tasks run.
+	 * @since 1.0
+	 */
+	public final synchronized int count() {
+		return count;
+	}
+
+	/**
+	 * <p>Returns the average time in milliseconds the tasks have waited in the queue 
+	 * before they are run.</p>
+	 * @return The average latency of the tasks.
+	 * @since 1.0
+	 */
+	public final synchronized double latency() {
+		return count > 0 ? latency / count : 0;
+	}
+
+	/**
+	 * <p>Returns the longest time in milliseconds a task has waited in the queue before 
+	 * it is run.</p>
+	 * @return The maximum latency of the tasks.
+	 * @since 1.0
+	 */
+	public final synchronized double maxLatency() {
+		return maxLatency;
 	}
 
 	/**
 	 * <p>Polls the first pending task.</p>
-	 * <p>If there is no pending tasks, this method returns <tt>null</tt>. If there is no 
-	 * pending tasks left after popping the last one, this method put the task manager 
-	 * into sleep before it returns the last task.</p>
+	 * <p>If there is no pending tasks, this method returns <tt>null</tt>.</p>
 	 * @return The first pending task.
 	 * @since 1.0
 	 */
-	public final synchronized Runnable poll() {
+	public final Runnable poll() {
+		return poll(now());
+	}
+
+	private final synchronized Runnable poll(double now) {
 		if (size() > 0) {
-			return queue.get(start++);
-		} else {
-			if (start > 0) {
-				queue = new Vars<Runnable>().var();
-				start = 0;
+			double wait = now - ArrayLikes.shift(times).doubleValue();
+			count++;
+			latency += wait;
+			if (wait > maxLatency) {
+				maxLatency = wait;
 			}
-			timer.clear();
+			return ArrayLikes.shift(queue);
 		}
 		return null;
 	}
@@ -139,7 +245,11 @@ public final class TaskManager extends Disposable
 	 * @since 1.0
 	 */
 	public final synchronized Runnable pop() {
-		return size() > 0 ? ArrayLikes.pop(queue) : null;
+		if (size() > 0) {
+			ArrayLikes.pop(times);
+			return ArrayLikes.pop(queue);
+		}
+		return null;
 	}
 
 	/**
@@ -150,12 +260,13 @@ public final class TaskManager extends Disposable
 	 */
 	public final synchronized void submit(Runnable r) {
 		ArrayLikes.push(queue, r);
-		if (idle()) {
-			if (Js.be(interval)) {
-				timer.set(interval);
-			} else {
-				timer.set();
-			}
+		ArrayLikes.push(times, now());
+		if (size() > maxSize) {
+			maxSize = size();
+		}
+		if (!running) {
+			running = true;
+			schedule();
 		}
 	}
 }
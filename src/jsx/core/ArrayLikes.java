@@ -392,6 +392,66 @@ public final class ArrayLikes extends Disposable
 	public static final <T> T getLast(ArrayLike<T> arr) {
 		return arr.get(length(arr) - 1);
 	}
+	/**
+	 * <p>Gets an element of an array instance as an <tt>int</tt> value.</p>
+	 * <p>Arrays of numbers created from primitive Java arrays, such as by 
+	 * {@link Js#array(int[])}, are read without boxing in JS Simulation.</p>
+	 * @param arr The current array instance.
+	 * @param i Array index of the element
+	 * @return The element converted to an <tt>int</tt> value or <tt>0</tt> if it is undefined.
+	 * @see #getDouble(ArrayLike, int)
+	 * @see #setInt(ArrayLike, int, int)
+	 * @see js.Js#getInt(ArrayLike, int)
+	 * @since 1.0
+	 */
+	public static final int getInt(ArrayLike<?> arr, int i) {
+		return Js.getInt(arr, i);
+	}
+	/**
+	 * <p>Gets an element of an array instance as a <tt>double</tt> value.</p>
+	 * <p>Arrays of numbers created from primitive Java arrays, such as by 
+	 * {@link Js#array(double[])}, are read without boxing in JS Simulation.</p>
+	 * @param arr The current array instance.
+	 * @param i Array index of the element
+	 * @return The element converted to a <tt>double</tt> value or <tt>NaN</tt> if it is undefined.
+	 * @see #getInt(ArrayLike, int)
+	 * @see #setDouble(ArrayLike, int, double)
+	 * @see js.Js#getDouble(ArrayLike, int)
+	 * @since 1.0
+	 */
+	public static final double getDouble(ArrayLike<?> arr, int i) {
+		return Js.getDouble(arr, i);
+	}
+	/**
+	 * <p>Sets an element of an array instance to an <tt>int</tt> value.</p>
+	 * <p>Arrays of numbers created from primitive Java arrays are written, and grown when 
+	 * <tt>i</tt> equals their length, without boxing in JS Simulation.</p>
+	 * @param arr The current array instance.
+	 * @param i Array index of the element
+	 * @param v The new value of the element.
+	 * @see #setDouble(ArrayLike, int, double)
+	 * @see #getInt(ArrayLike, int)
+	 * @see js.Js#setInt(ArrayLike, int, int)
+	 * @since 1.0
+	 */
+	public static final void setInt(ArrayLike<?> arr, int i, int v) {
+		Js.setInt(arr, i, v);
+	}
+	/**
+	 * <p>Sets an element of an array instance to a <tt>double</tt> value.</p>
+	 * <p>Arrays of numbers created from primitive Java arrays are written, and grown when 
+	 * <tt>i</tt> equals their length, without boxing in JS Simulation.</p>
+	 * @param arr The current array instance.
+	 * @param i Array index of the element
+	 * @param v The new value of the element.
+	 * @see #setInt(ArrayLike, int, int)
+	 * @see #getDouble(ArrayLike, int)
+	 * @see js.Js#setDouble(ArrayLike, int, double)
+	 * @since 1.0
+	 */
+	public static final void setDouble(ArrayLike<?> arr, int i, double v) {
+		Js.setDouble(arr, i, v);
+	}
 
 	public static final <T> ArrayLike<T> copy(ArrayLike<T> array) {
 		ArrayLike<T> ret = Js.array();
@@ -427,12 +487,155 @@ public final class ArrayLikes extends Disposable
 		return i;
 	}
 	public static final int indexOf(ArrayLike<?> array, Object value) {
-		for (int i = 0, len = length(array); i < len; i++) {
-			if(Js.eq(array.get(i), value)) {
-				return i;
-			}
-		}
-		return -1;
+		return indexOf(array, value, 0, length(array));
+	}
+	/**
+	 * <p>Searches a range of an array for the first element equal to a value.</p>
+	 * <p>Large arrays created from primitive Java arrays may be searched in parallel in 
+	 * JS Simulation.</p>
+	 * @param arr The current array instance.
+	 * @param value The value to search for.
+	 * @param from The array index of the first element.
+	 * @param to The array index after the last element, which must not be greater than 
+	 * the length of the array.
+	 * @return The array index of the first element found or <tt>-1</tt> if none is found.
+	 * @see #indexOf(ArrayLike, Object)
+	 * @see js.Js#indexOf(ArrayLike, Object, int, int)
+	 * @since 1.0
+	 */
+	public static final int indexOf(ArrayLike<?> arr, Object value, int from, int to) {
+		return Js.indexOf(arr, value, from, to);
+	}
+	/**
+	 * <p>Creates an array of the results of calling a function on each element of an 
+	 * array instance.</p>
+	 * <p>The function is called in order on the calling thread, unless the JS Simulation 
+	 * is a subclass that overrides its parallelism, in which case it may be called in 
+	 * parallel and out of order on large arrays created from primitive Java arrays.</p>
+	 * @param arr The current array instance.
+	 * @param f The function called with an element and its array index.
+	 * @return The newly created array of the results.
+	 * @see #map(ArrayLike, JsFunction, int, int)
+	 * @since 1.0
+	 */
+	public static final <T> ArrayLike<T> map(ArrayLike<?> arr, JsFunction<T> f) {
+		return map(arr, f, 0, length(arr));
+	}
+	/**
+	 * <p>Creates an array of the results of calling a function on each element in a range 
+	 * of an array instance.</p>
+	 * <p>The function is called in order on the calling thread, unless the JS Simulation 
+	 * is a subclass that overrides its parallelism, in which case it may be called in 
+	 * parallel and out of order on large arrays created from primitive Java arrays.</p>
+	 * @param arr The current array instance.
+	 * @param f The function called with an element and its array index.
+	 * @param from The array index of the first element.
+	 * @param to The array index after the last element, which must not be greater than 
+	 * the length of the array.
+	 * @return The newly created array of the results.
+	 * @see #map(ArrayLike, JsFunction)
+	 * @see js.Js#map(ArrayLike, JsFunction, int, int)
+	 * @since 1.0
+	 */
+	public static final <T> ArrayLike<T> map(ArrayLike<?> arr, JsFunction<T> f, int from, int to) {
+		return Js.map(arr, f, from, to);
+	}
+	/**
+	 * <p>Creates an array of the elements of an array instance for which a function 
+	 * evaluates to <tt>true</tt>.</p>
+	 * <p>The function is called in order on the calling thread, unless the JS Simulation 
+	 * is a subclass that overrides its parallelism, in which case it may be called in 
+	 * parallel and out of order on large arrays created from primitive Java arrays.</p>
+	 * @param arr The current array instance.
+	 * @param f The function called with an element and its array index.
+	 * @return The newly created array of the elements kept.
+	 * @see #filter(ArrayLike, JsFunction, int, int)
+	 * @since 1.0
+	 */
+	public static final <T> ArrayLike<T> filter(ArrayLike<T> arr, JsFunction<?> f) {
+		return filter(arr, f, 0, length(arr));
+	}
+	/**
+	 * <p>Creates an array of the elements in a range of an array instance for which a 
+	 * function evaluates to <tt>true</tt>.</p>
+	 * <p>The function is called in order on the calling thread, unless the JS Simulation 
+	 * is a subclass that overrides its parallelism, in which case it may be called in 
+	 * parallel and out of order on large arrays created from primitive Java arrays.</p>
+	 * @param arr The current array instance.
+	 * @param f The function called with an element and its array index.
+	 * @param from The array index of the first element.
+	 * @param to The array index after the last element, which must not be greater than 
+	 * the length of the array.
+	 * @return The newly created array of the elements kept.
+	 * @see #filter(ArrayLike, JsFunction)
+	 * @see js.Js#filter(ArrayLike, JsFunction, int, int)
+	 * @since 1.0
+	 */
+	public static final <T> ArrayLike<T> filter(ArrayLike<T> arr, JsFunction<?> f, int from, int to) {
+		return Js.filter(arr, f, from, to);
+	}
+	/**
+	 * <p>Folds the elements of an array instance from left to right with a function.</p>
+	 * <p>The elements are always folded one after another, starting from <tt>initial</tt>, 
+	 * so the function needs not be associative.</p>
+	 * @param arr The current array instance.
+	 * @param f The function called with the value accumulated so far and an element.
+	 * @param initial The initial value.
+	 * @return The accumulated value or <tt>initial</tt> if the array is empty.
+	 * @see #reduce(ArrayLike, JsFunction, Object, int, int)
+	 * @since 1.0
+	 */
+	public static final <T> T reduce(ArrayLike<?> arr, JsFunction<T> f, Object initial) {
+		return reduce(arr, f, initial, 0, length(arr));
+	}
+	/**
+	 * <p>Folds the elements in a range of an array instance from left to right with a 
+	 * function.</p>
+	 * <p>The elements are always folded one after another, starting from <tt>initial</tt>, 
+	 * so the function needs not be associative.</p>
+	 * @param arr The current array instance.
+	 * @param f The function called with the value accumulated so far and an element.
+	 * @param initial The initial value.
+	 * @param from The array index of the first element.
+	 * @param to The array index after the last element, which must not be greater than 
+	 * the length of the array.
+	 * @return The accumulated value or <tt>initial</tt> if the range is empty.
+	 * @see #reduce(ArrayLike, JsFunction, Object)
+	 * @see js.Js#reduce(ArrayLike, JsFunction, Object, int, int)
+	 * @since 1.0
+	 */
+	public static final <T> T reduce(ArrayLike<?> arr, JsFunction<T> f, Object initial, int from, int to) {
+		return Js.reduce(arr, f, initial, from, to);
+	}
+	/**
+	 * <p>Calls a function on each element of an array instance.</p>
+	 * <p>The function is called in order on the calling thread, unless the JS Simulation 
+	 * is a subclass that overrides its parallelism, in which case it may be called in 
+	 * parallel and out of order on large arrays created from primitive Java arrays.</p>
+	 * @param arr The current array instance.
+	 * @param f The function called with an element and its array index.
+	 * @see #forEach(ArrayLike, JsFunction, int, int)
+	 * @since 1.0
+	 */
+	public static final void forEach(ArrayLike<?> arr, JsFunction<?> f) {
+		forEach(arr, f, 0, length(arr));
+	}
+	/**
+	 * <p>Calls a function on each element in a range of an array instance.</p>
+	 * <p>The function is called in order on the calling thread, unless the JS Simulation 
+	 * is a subclass that overrides its parallelism, in which case it may be called in 
+	 * parallel and out of order on large arrays created from primitive Java arrays.</p>
+	 * @param arr The current array instance.
+	 * @param f The function called with an element and its array index.
+	 * @param from The array index of the first element.
+	 * @param to The array index after the last element, which must not be greater than 
+	 * the length of the array.
+	 * @see #forEach(ArrayLike, JsFunction)
+	 * @see js.Js#forEach(ArrayLike, JsFunction, int, int)
+	 * @since 1.0
+	 */
+	public static final void forEach(ArrayLike<?> arr, JsFunction<?> f, int from, int to) {
+		Js.forEach(arr, f, from, to);
 	}
 	public static final int remove(ArrayLike<?> array, Object value) {
 		int index = indexOf(array, value);
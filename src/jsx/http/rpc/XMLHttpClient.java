@@ -22,6 +22,7 @@ package jsx.http.rpc;
 import js.ArrayLike;
 import js.Js;
 import js.ObjectLike;
+import js.Value;
 import js.user.JsDocument;
 import js.user.JsElement;
 import js.user.JsNode;
@@ -54,11 +55,11 @@ public class XMLHttpClient extends XMLHttpContext
 	 * @since 1.0
 	 */
 	public final String body(HttpRemote base, ArrayLike<?> args) {
-		String s = "";
+		Value.String a = new Value.String("");
 		for (int i = 0, len = ArrayLikes.length(args); i < len; i++) {
-			s = Js.add(s, serialize(args.get(i), 0));
+			a.append(serialize(args.get(i), 0));
 		}
-		s = xelt(ARGS, s);
+		String s = xelt(ARGS, a.var());
 		s = Js.add(xelt(BASE, serialize(base, 0)), s);
 		s = Js.add(xelt(CNTX, serialize()), s);
 		s = Js.add(xelt(SIDS, sids()), s);
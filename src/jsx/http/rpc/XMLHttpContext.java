@@ -22,6 +22,7 @@ package jsx.http.rpc;
 import js.ArrayLike;
 import js.Js;
 import js.ObjectLike;
+import js.Value;
 import js.Vars;
 import jsx.core.ArrayLikes;
 
@@ -163,7 +164,7 @@ public abstract class XMLHttpContext extends HttpRemote.Context
 		if (depth < 1) {
 			return xelt(tag, sid(unwrap(o)));
 		}
-		String s = depth > 1 ? "" : xelt(SID, sid(unwrap(o)));
+		Value.String s = new Value.String(depth > 1 ? "" : xelt(SID, sid(unwrap(o))));
 		ArrayLike<String> ids = Js.keys(unwrap(o));
 		for (int i = 0, len = ArrayLikes.length(ids); i < len; i++) {
 			String id = ids.get(i);
@@ -172,9 +173,9 @@ public abstract class XMLHttpContext extends HttpRemote.Context
 						unwrap(o).var(id),
 						depth - 1
 				);
-				s = depth > 1 ? Js.add(s, v) : Js.add(s, fld(id, v));
+				s.append(depth > 1 ? v : fld(id, v));
 			}
 		}
-		return depth > 1 ? s : xelt(tag, s);
+		return depth > 1 ? s.var() : xelt(tag, s.var());
 	}
 }
@@ -20,7 +20,6 @@
 package jsx.ui.fx;
 
 import js.Js;
-import js.JsApplet;
 import js.ObjectLike;
 import jsx.dom.Styles;
 import jsx.ui.Component;
@@ -100,10 +99,8 @@ public class FadeIn extends Effects
 	 * @since 1.0
 	 */
 	public static final void animate(Component e) {
-		synchronized(JsApplet.class) {
-			FadeIn fi = new FadeIn(e);
-			fi.exec(new Animation(FadeIn.class));
-			e.removeListener(Animation.class, fi);
-		}
+		FadeIn fi = new FadeIn(e);
+		fi.exec(new Animation(FadeIn.class));
+		e.removeListener(Animation.class, fi);
 	}
 }
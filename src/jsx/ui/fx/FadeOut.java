@@ -20,7 +20,6 @@
 package jsx.ui.fx;
 
 import js.Js;
-import js.JsApplet;
 import js.ObjectLike;
 import jsx.dom.Styles;
 import jsx.ui.Component;
@@ -87,10 +86,8 @@ public class FadeOut extends Effects
 	 * @since 1.0
 	 */
 	public static final void animate(Component e, ObjectLike p) {
-		synchronized(JsApplet.class) {
-			FadeOut fo = new FadeOut(e);
-			fo.exec(new Animation(FadeOut.class, p));
-			e.removeListener(Animation.class, fo);
-		}
+		FadeOut fo = new FadeOut(e);
+		fo.exec(new Animation(FadeOut.class, p));
+		e.removeListener(Animation.class, fo);
 	}
 }
@@ -21,7 +21,6 @@ package jsx.ui.fx;
 
 import js.Initializer;
 import js.Js;
-import js.JsApplet;
 import js.ObjectLike;
 import jsx.client.Browser;
 import jsx.dom.Styles;
@@ -110,10 +109,8 @@ public class Transform extends Effects
 	 * @since 1.0
 	 */
 	public static final void animate(Component e, ObjectLike p) {
-		synchronized(JsApplet.class) {
-			Transform tf = new Transform(e);
-			tf.exec(new Animation(Transform.class, p));
-			e.removeListener(Animation.class, tf);
-		}
+		Transform tf = new Transform(e);
+		tf.exec(new Animation(Transform.class, p));
+		e.removeListener(Animation.class, tf);
 	}
 }
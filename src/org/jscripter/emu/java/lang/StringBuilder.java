@@ -39,7 +39,11 @@ import jsx.core.ArrayLikes;
  */
 public final class StringBuilder implements java.lang.CharSequence, Serializable, java.lang.Appendable
 {
+	private static final int CHUNK = 256;
+
 	private ArrayLike<java.lang.String> arr  = new Vars<java.lang.String>().var();
+	private ArrayLike<java.lang.Integer> offs = new Vars<java.lang.Integer>().var();
+	private java.lang.String flat = "";
 	private int len = 0;
 	private int capacity = 16;
 
@@ -239,13 +243,47 @@ public final class StringBuilder implements java.lang.CharSequence, Serializable
 		}
 		int appendLength = str.length();
 		if (appendLength > 0) {
-			ArrayLikes.push(arr, str);
+			int n = ArrayLikes.length(arr);
+			java.lang.String last = n > 0 ? arr.get(n - 1) : null;
+			if (last != null && last.length() < CHUNK) {
+				arr.set(n - 1, last.concat(str));
+			} else {
+				ArrayLikes.push(arr, str);
+				ArrayLikes.push(offs, len);
+			}
 			len += appendLength;
+			flat = null;
 			capacity();
 		}
 		return this;
 	};
 
+	private int chunk(int index) {
+		int lo = 0, hi = ArrayLikes.length(offs) - 1;
+		while (lo < hi) {
+			int mid = (lo + hi + 1) >> 1;
+			if (ArrayLikes.getInt(offs, mid) <= index) {
+				lo = mid;
+			} else {
+				hi = mid - 1;
+			}
+		}
+		return lo;
+	}
+
+	private int splice(int k, int count, java.lang.String s, int off) {
+		Vars<java.lang.String> ss = new Vars<java.lang.String>();
+		Vars<java.lang.Integer> os = new Vars<java.lang.Integer>();
+		int n = 0;
+		for (int i = 0, slen = s.length(); i < slen; i += CHUNK, n++) {
+			ss.add(s.substring(i, Math.min(slen, i + CHUNK)));
+			os.add(off + i);
+		}
+		arr.splice(k, count, ss);
+		offs.splice(k, count, os);
+		return n;
+	}
+
 	/**
 	 * <p>Appends the specified string buffer to this sequence.</p>
 	 * @param x A {@link java.lang.StringBuffer}.
@@ -264,10 +302,8 @@ public final class StringBuilder implements java.lang.CharSequence, Serializable
 	 * @javascript Re-compilers must report error on end-users directly using this method.
 	 */
 	public int capacity() {
-		int arrlen = ArrayLikes.length(arr);
-		if (arrlen > capacity) {
-			toString();
-			ensureCapacity(arrlen);
+		if (len > capacity) {
+			ensureCapacity(len);
 		}
 		return capacity;
 	}
@@ -282,7 +318,12 @@ public final class StringBuilder implements java.lang.CharSequence, Serializable
 	 * @javascript Re-compilers must report error on end-users directly using this method.
 	 */
 	public char charAt(int index) {
-		return toString().charAt(index);
+		if (flat != null) {
+			return flat.charAt(index);
+		}
+		String.checkBounds(index, index + 1, len);
+		int k = chunk(index);
+		return arr.get(k).charAt(index - ArrayLikes.getInt(offs, k));
 	}
 
 	/**
@@ -319,9 +360,8 @@ public final class StringBuilder implements java.lang.CharSequence, Serializable
 	 * @javascript Re-compilers must report error on end-users directly using this method.
 	 */
 	public void ensureCapacity(int minimumCapacity) {
-		if (minimumCapacity > capacity()) {
+		if (minimumCapacity > capacity) {
 			capacity = minimumCapacity * 2 + 2;
-			ArrayLikes.length(arr, capacity);
 		}
 	}
 
@@ -337,9 +377,12 @@ public final class StringBuilder implements java.lang.CharSequence, Serializable
 	public void getChars(int srcStart, int srcEnd, char[] dst, int dstStart) {
 		String.checkBounds(srcStart, srcEnd, len);
 		String.checkBounds(dstStart, dstStart + (srcEnd - srcStart), dst.length);
-		java.lang.String s = toString();
-		while (srcStart < srcEnd) {
-			dst[dstStart++] = s.charAt(srcStart++);
+		for (int k = chunk(srcStart); srcStart < srcEnd; k++) {
+			java.lang.String s = arr.get(k);
+			int off = ArrayLikes.getInt(offs, k);
+			for (int end = Math.min(srcEnd, off + s.length()); srcStart < end; ) {
+				dst[dstStart++] = s.charAt(srcStart++ - off);
+			}
 		}
 	}
 
@@ -562,12 +605,24 @@ public final class StringBuilder implements java.lang.CharSequence, Serializable
 	 * @javascript Re-compilers must report error on end-users directly using this method.
 	 */
 	public StringBuilder replace(int start, int end, java.lang.String str) {
-		java.lang.String s = toString();
-		arr = new Vars<java.lang.String>()
-				.add(s.substring(0, start))
-				.add(str)
-				.add(s.substring(end)).var();
-		len += str.length() - (end - start);
+		if (end > len) {
+			end = len;
+		}
+		String.checkBounds(start, end, len);
+		if (len == 0) {
+			return append(str);
+		}
+		int k = chunk(start);
+		int e = end > start ? chunk(end - 1) : k;
+		int off = ArrayLikes.getInt(offs, k);
+		java.lang.String s = arr.get(k).substring(0, start - off).concat(str).concat(
+				arr.get(e).substring(end - ArrayLikes.getInt(offs, e)));
+		int delta = str.length() - (end - start);
+		for (int i = k + splice(k, e - k + 1, s, off), n = ArrayLikes.length(offs); i < n; i++) {
+			ArrayLikes.setInt(offs, i, ArrayLikes.getInt(offs, i) + delta);
+		}
+		len += delta;
+		flat = null;
 		return this;
 	}
 
@@ -579,7 +634,16 @@ public final class StringBuilder implements java.lang.CharSequence, Serializable
 	 * @javascript Re-compilers must report error on end-users directly using this method.
 	 */
 	public void setCharAt(int index, char x) {
-		replace(index, index + 1, java.lang.String.valueOf(x));
+		String.checkBounds(index, index + 1, len);
+		int k = chunk(index);
+		java.lang.String s = arr.get(k);
+		if (s.length() > CHUNK) {
+			replace(index, index + 1, java.lang.String.valueOf(x));
+			return;
+		}
+		int i = index - ArrayLikes.getInt(offs, k);
+		arr.set(k, s.substring(0, i).concat(java.lang.String.valueOf(x)).concat(s.substring(i + 1)));
+		flat = null;
 	}
 
 	/**
@@ -634,6 +698,15 @@ public final class StringBuilder implements java.lang.CharSequence, Serializable
 	 * @javascript Re-compilers must report error on end-users directly using this method.
 	 */
 	public java.lang.String substring(int start, int end) {
+		if (flat == null && end > start) {
+			String.checkBounds(start, end, len);
+			int k = chunk(start);
+			int off = ArrayLikes.getInt(offs, k);
+			java.lang.String s = arr.get(k);
+			if (end - off <= s.length()) {
+				return s.substring(start - off, end - off);
+			}
+		}
 		return toString().substring(start, end);
 	}
 
@@ -645,10 +718,9 @@ public final class StringBuilder implements java.lang.CharSequence, Serializable
 	 */
 	@Override
 	public java.lang.String toString() {
-		if (ArrayLikes.length(arr) > 1) {
-			java.lang.String s = ArrayLikes.join(arr);
-			arr = new Vars<java.lang.String>().add(s).var();
+		if (flat == null) {
+			flat = ArrayLikes.join(arr, "");
 		}
-		return arr.get(0);
+		return flat;
 	}
 }
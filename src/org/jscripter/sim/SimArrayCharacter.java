@@ -22,26 +22,59 @@ package org.jscripter.sim;
 import java.util.Arrays;
 
 import js.ArrayLike;
+import js.Js;
 import js.Vars;
 import js.core.JsArray;
 import js.core.JsFunction;
 
-final class SimArrayCharacter implements ArrayLike<Character>
+final class SimArrayCharacter implements ArrayLike<Character>, SimArrayPrimitive
 {
-	private final char[] arr;
+	private char[] arr;
+	private int length;
 
 	public SimArrayCharacter(char[] arr) {
 		this.arr = arr;
+		this.length = arr.length;
+	}
+
+	private final void grow(int n) {
+		if (n > arr.length) {
+			char[] a = new char[Math.max(n, arr.length + (arr.length >> 1) + 8)];
+			System.arraycopy(arr, 0, a, 0, length);
+			arr = a;
+		}
+	}
+
+	private final SimArrayCharacter copy(int from, int to) {
+		char[] a = new char[Math.max(to - from, 0)];
+		System.arraycopy(arr, from, a, 0, a.length);
+		return new SimArrayCharacter(a);
+	}
+
+	private final static void check(ArrayLike<?> a) {
+		for (int i = 0, len = a.length(); i < len; i++) {
+			if (!(a.get(i) instanceof Character)) {
+				throw new UnsupportedOperationException();
+			}
+		}
 	}
 
 	//@Override
 	public final synchronized ArrayLike<Character> concat(Vars<?> args) {
-		return SimArrays.concat(new SimArrayList<Character>(), this, args);
+		try {
+			return SimArrays.append(copy(0, length), args);
+		} catch (UnsupportedOperationException uoe) {
+			return SimArrays.concat(new SimArrayList<Character>(), this, args);
+		}
 	}
 
 	//@Override
 	public final synchronized ArrayLike<Character> concat(Object arg) {
-		return SimArrays.concat(new SimArrayList<Character>(), this, arg);
+		try {
+			return SimArrays.append(copy(0, length), arg);
+		} catch (UnsupportedOperationException uoe) {
+			return SimArrays.concat(new SimArrayList<Character>(), this, arg);
+		}
 	}
 
 	//@Override
@@ -51,7 +84,17 @@ final class SimArrayCharacter implements ArrayLike<Character>
 
 	//@Override
 	public final synchronized Character get(int i) {
-		return i < arr.length ? arr[i] : null;
+		return i < length ? arr[i] : null;
+	}
+
+	//@Override
+	public final synchronized int getInt(int i) {
+		return i >= 0 && i < length ? arr[i] : 0;
+	}
+
+	//@Override
+	public final synchronized double getDouble(int i) {
+		return i >= 0 && i < length ? arr[i] : Double.NaN;
 	}
 
 	//@Override
@@ -66,12 +109,16 @@ final class SimArrayCharacter implements ArrayLike<Character>
 
 	//@Override
 	public final synchronized int length() {
-		return arr.length;
+		return length;
 	}
 
 	//@Override
 	public final synchronized int length(int len) {
-		throw new UnsupportedOperationException();
+		if (len < 0 || len > length) {
+			throw new UnsupportedOperationException();
+		}
+		length = len;
+		return len;
 	}
 
 	//@Override
@@ -86,56 +133,108 @@ final class SimArrayCharacter implements ArrayLike<Character>
 
 	//@Override
 	public final synchronized Character pop() {
-		throw new UnsupportedOperationException();
+		return length > 0 ? arr[--length] : null;
 	}
 
 	//@Override
 	public final synchronized int push(Object v) {
-		throw new UnsupportedOperationException();
+		if (!(v instanceof Character)) {
+			throw new UnsupportedOperationException();
+		}
+		grow(length + 1);
+		arr[length] = (Character)v;
+		return ++length;
 	}
 
 	//@Override
 	public final synchronized int push(Vars<?> args) {
-		throw new UnsupportedOperationException();
+		ArrayLike<?> a = args.var();
+		check(a);
+		int n = a.length();
+		grow(length + n);
+		for (int i = 0; i < n; i++) {
+			arr[length++] = (Character)a.get(i);
+		}
+		return length;
 	}
 
 	//@Override
 	public final synchronized void reverse() {
-		SimArrays.reverse(this);
+		for (int i = 0, j = length - 1; i < j; i++, j--) {
+			char t = arr[i];
+			arr[i] = arr[j];
+			arr[j] = t;
+		}
 	}
 
 	//@Override
 	public final synchronized Character set(int i, Character v) {
-		if (i >= length()) {
+		if (v == null || i > length) {
 			throw new UnsupportedOperationException();
 		}
+		if (i == length) {
+			grow(length + 1);
+			length++;
+		}
 		arr[i] = v;
 		return v;
 	}
 
+	//@Override
+	public final synchronized void setInt(int i, int v) {
+		if (i > length || (char)v != v) {
+			throw new UnsupportedOperationException();
+		}
+		if (i == length) {
+			grow(length + 1);
+			length++;
+		}
+		arr[i] = (char)v;
+	}
+
+	//@Override
+	public final synchronized void setDouble(int i, double v) {
+		if (i > length || (char)v != v) {
+			throw new UnsupportedOperationException();
+		}
+		if (i == length) {
+			grow(length + 1);
+			length++;
+		}
+		arr[i] = (char)v;
+	}
+
 	//@Override
 	public final synchronized Character shift() {
-		throw new UnsupportedOperationException();
+		if (length == 0) {
+			return null;
+		}
+		char v = arr[0];
+		System.arraycopy(arr, 1, arr, 0, --length);
+		return v;
 	}
 
 	//@Override
 	public final synchronized ArrayLike<Character> slice(Vars<?> args) {
-		return SimArrays.slice(this, args);
+		ArrayLike<?> a = args.var();
+		return a.length() < 2 ? slice(a.get(0)) : slice(a.get(0), a.get(1));
 	}
 
 	//@Override
 	public final synchronized ArrayLike<Character> slice(Object start) {
-		return SimArrays.slice(this, start);
+		return copy(SimArrays.start(start, length), length);
 	}
 
 	//@Override
 	public final synchronized ArrayLike<Character> slice(Object start, Object end) {
-		return SimArrays.slice(this, start, end);
+		int s = SimArrays.start(start, length);
+		int e = Js.undefined(end) ? length : SimArrays.start(end, length);
+		return copy(s, Math.max(s, e));
 	}
 
 	//@Override
 	public final synchronized ArrayLike<Character> sort() {
-		Arrays.sort(arr);
+		Arrays.sort(arr, 0, length);
 		return this;
 	}
 
@@ -171,12 +270,27 @@ final class SimArrayCharacter implements ArrayLike<Character>
 
 	//@Override
 	public final synchronized int unshift(Vars<?> args) {
-		throw new UnsupportedOperationException();
+		ArrayLike<?> a = args.var();
+		check(a);
+		int n = a.length();
+		grow(length + n);
+		System.arraycopy(arr, 0, arr, n, length);
+		for (int i = 0; i < n; i++) {
+			arr[i] = (Character)a.get(i);
+		}
+		length += n;
+		return length;
 	}
 
 	//@Override
 	public final synchronized int unshift(Object value) {
-		throw new UnsupportedOperationException();
+		if (!(value instanceof Character)) {
+			throw new UnsupportedOperationException();
+		}
+		grow(length + 1);
+		System.arraycopy(arr, 0, arr, 1, length);
+		arr[0] = (Character)value;
+		return ++length;
 	}
 
 	//@Override
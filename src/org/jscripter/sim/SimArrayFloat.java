@@ -22,26 +22,59 @@ package org.jscripter.sim;
 import java.util.Arrays;
 
 import js.ArrayLike;
+import js.Js;
 import js.Vars;
 import js.core.JsArray;
 import js.core.JsFunction;
 
-final class SimArrayFloat implements ArrayLike<Float>
+final class SimArrayFloat implements ArrayLike<Float>, SimArrayPrimitive
 {
-	private final float[] arr;
+	private float[] arr;
+	private int length;
 
 	public SimArrayFloat(float[] arr) {
 		this.arr = arr;
+		this.length = arr.length;
+	}
+
+	private final void grow(int n) {
+		if (n > arr.length) {
+			float[] a = new float[Math.max(n, arr.length + (arr.length >> 1) + 8)];
+			System.arraycopy(arr, 0, a, 0, length);
+			arr = a;
+		}
+	}
+
+	private final SimArrayFloat copy(int from, int to) {
+		float[] a = new float[Math.max(to - from, 0)];
+		System.arraycopy(arr, from, a, 0, a.length);
+		return new SimArrayFloat(a);
+	}
+
+	private final static void check(ArrayLike<?> a) {
+		for (int i = 0, len = a.length(); i < len; i++) {
+			if (!(a.get(i) instanceof Float)) {
+				throw new UnsupportedOperationException();
+			}
+		}
 	}
 
 	//@Override
 	public final synchronized ArrayLike<Float> concat(Vars<?> args) {
-		return SimArrays.concat(new SimArrayList<Float>(), this, args);
+		try {
+			return SimArrays.append(copy(0, length), args);
+		} catch (UnsupportedOperationException uoe) {
+			return SimArrays.concat(new SimArrayList<Float>(), this, args);
+		}
 	}
 
 	//@Override
 	public final synchronized ArrayLike<Float> concat(Object arg) {
-		return SimArrays.concat(new SimArrayList<Float>(), this, arg);
+		try {
+			return SimArrays.append(copy(0, length), arg);
+		} catch (UnsupportedOperationException uoe) {
+			return SimArrays.concat(new SimArrayList<Float>(), this, arg);
+		}
 	}
 
 	//@Override
@@ -51,7 +84,17 @@ final class SimArrayFloat implements ArrayLike<Float>
 
 	//@Override
 	public final synchronized Float get(int i) {
-		return i < arr.length ? arr[i] : null;
+		return i < length ? arr[i] : null;
+	}
+
+	//@Override
+	public final synchronized int getInt(int i) {
+		return i >= 0 && i < length ? SimUtil.toInt32(arr[i]) : 0;
+	}
+
+	//@Override
+	public final synchronized double getDouble(int i) {
+		return i >= 0 && i < length ? arr[i] : Double.NaN;
 	}
 
 	//@Override
@@ -66,12 +109,16 @@ final class SimArrayFloat implements ArrayLike<Float>
 
 	//@Override
 	public final synchronized int length() {
-		return arr.length;
+		return length;
 	}
 
 	//@Override
 	public final synchronized int length(int len) {
-		throw new UnsupportedOperationException();
+		if (len < 0 || len > length) {
+			throw new UnsupportedOperationException();
+		}
+		length = len;
+		return len;
 	}
 
 	//@Override
@@ -86,56 +133,108 @@ final class SimArrayFloat implements ArrayLike<Float>
 
 	//@Override
 	public final synchronized Float pop() {
-		throw new UnsupportedOperationException();
+		return length > 0 ? arr[--length] : null;
 	}
 
 	//@Override
 	public final synchronized int push(Object v) {
-		throw new UnsupportedOperationException();
+		if (!(v instanceof Float)) {
+			throw new UnsupportedOperationException();
+		}
+		grow(length + 1);
+		arr[length] = (Float)v;
+		return ++length;
 	}
 
 	//@Override
 	public final synchronized int push(Vars<?> args) {
-		throw new UnsupportedOperationException();
+		ArrayLike<?> a = args.var();
+		check(a);
+		int n = a.length();
+		grow(length + n);
+		for (int i = 0; i < n; i++) {
+			arr[length++] = (Float)a.get(i);
+		}
+		return length;
 	}
 
 	//@Override
 	public final synchronized void reverse() {
-		SimArrays.reverse(this);
+		for (int i = 0, j = length - 1; i < j; i++, j--) {
+			float t = arr[i];
+			arr[i] = arr[j];
+			arr[j] = t;
+		}
 	}
 
 	//@Override
 	public final synchronized Float set(int i, Float v) {
-		if (i >= length()) {
+		if (v == null || i > length) {
 			throw new UnsupportedOperationException();
 		}
+		if (i == length) {
+			grow(length + 1);
+			length++;
+		}
 		arr[i] = v;
 		return v;
 	}
 
+	//@Override
+	public final synchronized void setInt(int i, int v) {
+		if (i > length || (int)(float)v != v) {
+			throw new UnsupportedOperationException();
+		}
+		if (i == length) {
+			grow(length + 1);
+			length++;
+		}
+		arr[i] = v;
+	}
+
+	//@Override
+	public final synchronized void setDouble(int i, double v) {
+		if (i > length || (float)v != v && v == v) {
+			throw new UnsupportedOperationException();
+		}
+		if (i == length) {
+			grow(length + 1);
+			length++;
+		}
+		arr[i] = (float)v;
+	}
+
 	//@Override
 	public final synchronized Float shift() {
-		throw new UnsupportedOperationException();
+		if (length == 0) {
+			return null;
+		}
+		float v = arr[0];
+		System.arraycopy(arr, 1, arr, 0, --length);
+		return v;
 	}
 
 	//@Override
 	public final synchronized ArrayLike<Float> slice(Vars<?> args) {
-		return SimArrays.slice(this, args);
+		ArrayLike<?> a = args.var();
+		return a.length() < 2 ? slice(a.get(0)) : slice(a.get(0), a.get(1));
 	}
 
 	//@Override
 	public final synchronized ArrayLike<Float> slice(Object start) {
-		return SimArrays.slice(this, start);
+		return copy(SimArrays.start(start, length), length);
 	}
 
 	//@Override
 	public final synchronized ArrayLike<Float> slice(Object start, Object end) {
-		return SimArrays.slice(this, start, end);
+		int s = SimArrays.start(start, length);
+		int e = Js.undefined(end) ? length : SimArrays.start(end, length);
+		return copy(s, Math.max(s, e));
 	}
 
 	//@Override
 	public final synchronized ArrayLike<Float> sort() {
-		Arrays.sort(arr);
+		Arrays.sort(arr, 0, length);
 		return this;
 	}
 
@@ -171,12 +270,27 @@ final class SimArrayFloat implements ArrayLike<Float>
 
 	//@Override
 	public final synchronized int unshift(Vars<?> args) {
-		throw new UnsupportedOperationException();
+		ArrayLike<?> a = args.var();
+		check(a);
+		int n = a.length();
+		grow(length + n);
+		System.arraycopy(arr, 0, arr, n, length);
+		for (int i = 0; i < n; i++) {
+			arr[i] = (Float)a.get(i);
+		}
+		length += n;
+		return length;
 	}
 
 	//@Override
 	public final synchronized int unshift(Object value) {
-		throw new UnsupportedOperationException();
+		if (!(value instanceof Float)) {
+			throw new UnsupportedOperationException();
+		}
+		grow(length + 1);
+		System.arraycopy(arr, 0, arr, 1, length);
+		arr[0] = (Float)value;
+		return ++length;
 	}
 
 	//@Override
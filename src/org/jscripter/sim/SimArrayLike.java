@@ -22,12 +22,13 @@ package org.jscripter.sim;
 import org.jscripter.sim.core.Core;
 
 import js.ArrayLike;
+import js.Js;
 import js.Vars;
 import js.core.JsArray;
 import js.core.JsFunction;
 import js.core.JsGlobal;
 
-class SimArrayLike<T> implements ArrayLike<T>
+class SimArrayLike<T> implements ArrayLike<T>, SimArrayPrimitive
 {
 	private ArrayLike<T> arr;
 
@@ -39,27 +40,37 @@ class SimArrayLike<T> implements ArrayLike<T>
 		this(new SimArrayList<T>());
 	}
 
+	private final void relayout(int length) {
+		if (arr instanceof SimArraySparse<?>) {
+			arr = new SimArrayList<T>(arr);
+		} else if (arr instanceof SimArrayList<?> || SimArrays.sparse(arr.length(), length)) {
+			arr = new SimArraySparse<T>(arr);
+		} else {
+			arr = new SimArrayList<T>(arr);
+		}
+	}
+
+	final synchronized boolean primitive() {
+		return arr instanceof SimArrayPrimitive;
+	}
+
 	//@Override
 	public final synchronized ArrayLike<T> concat(Vars<?> args) {
 		try {
-			arr = arr.concat(args);
-			return this;
+			return new SimArrayLike<T>(arr.concat(args));
 		} catch (UnsupportedOperationException uoe) {
 			arr = new SimArrayList<T>(arr);
-			arr = arr.concat(args);
-			return this;
+			return new SimArrayLike<T>(arr.concat(args));
 		}
 	}
 
 	//@Override
 	public final synchronized ArrayLike<T> concat(Object arg) {
 		try {
-			arr = arr.concat(arg);
-			return this;
+			return new SimArrayLike<T>(arr.concat(arg));
 		} catch (UnsupportedOperationException uoe) {
 			arr = new SimArrayList<T>(arr);
-			arr = arr.concat(arg);
-			return this;
+			return new SimArrayLike<T>(arr.concat(arg));
 		}
 	}
 
@@ -68,7 +79,7 @@ class SimArrayLike<T> implements ArrayLike<T>
 		try {
 			return arr.delete(i);
 		} catch (UnsupportedOperationException uoe) {
-			arr = new SimArray<T>(arr);
+			relayout(arr.length());
 			return arr.delete(i);
 		}
 	}
@@ -78,6 +89,50 @@ class SimArrayLike<T> implements ArrayLike<T>
 		return arr.get(i);
 	}
 
+	//@Override
+	public final synchronized int getInt(int i) {
+		if (arr instanceof SimArrayPrimitive) {
+			return ((SimArrayPrimitive)arr).getInt(i);
+		}
+		return Js.getInt(arr, i);
+	}
+
+	//@Override
+	public final synchronized double getDouble(int i) {
+		if (arr instanceof SimArrayPrimitive) {
+			return ((SimArrayPrimitive)arr).getDouble(i);
+		}
+		return Js.getDouble(arr, i);
+	}
+
+	@SuppressWarnings("unchecked")
+	//@Override
+	public final synchronized void setInt(int i, int v) {
+		if (arr instanceof SimArrayPrimitive) {
+			try {
+				((SimArrayPrimitive)arr).setInt(i, v);
+				return;
+			} catch (UnsupportedOperationException uoe) {
+				arr = new SimArrayList<T>(arr);
+			}
+		}
+		set(i, (T)Integer.valueOf(v));
+	}
+
+	@SuppressWarnings("unchecked")
+	//@Override
+	public final synchronized void setDouble(int i, double v) {
+		if (arr instanceof SimArrayPrimitive) {
+			try {
+				((SimArrayPrimitive)arr).setDouble(i, v);
+				return;
+			} catch (UnsupportedOperationException uoe) {
+				arr = new SimArrayList<T>(arr);
+			}
+		}
+		set(i, (T)Double.valueOf(v));
+	}
+
 	//@Override
 	public final synchronized String join() {
 		return arr.join();
@@ -98,7 +153,7 @@ class SimArrayLike<T> implements ArrayLike<T>
 		try {
 			return arr.length(len);
 		} catch (UnsupportedOperationException uoe) {
-			arr = new SimArray<T>(arr);
+			relayout(len);
 			return arr.length(len);
 		}
 	}
@@ -153,7 +208,7 @@ class SimArrayLike<T> implements ArrayLike<T>
 		try {
 			return arr.set(i, v);
 		} catch (UnsupportedOperationException uoe) {
-			arr = new SimArray<T>(arr);
+			relayout(i + 1);
 			return arr.set(i, v);
 		}
 	}
@@ -163,7 +218,7 @@ class SimArrayLike<T> implements ArrayLike<T>
 		try {
 			return arr.shift();
 		} catch (UnsupportedOperationException uoe) {
-			arr = new SimArray<T>(arr);
+			relayout(arr.length());
 			return arr.shift();
 		}
 	}
@@ -210,7 +265,7 @@ class SimArrayLike<T> implements ArrayLike<T>
 		try {
 			return new SimArrayLike<T>(arr.splice(args));
 		} catch (UnsupportedOperationException uoe) {
-			arr = new SimArray<T>(arr);
+			relayout(arr.length());
 			return new SimArrayLike<T>(arr.splice(args));
 		}
 	}
@@ -220,7 +275,7 @@ class SimArrayLike<T> implements ArrayLike<T>
 		try {
 			return new SimArrayLike<T>(arr.splice(start));
 		} catch (UnsupportedOperationException uoe) {
-			arr = new SimArray<T>(arr);
+			relayout(arr.length());
 			return new SimArrayLike<T>(arr.splice(start));
 		}
 	}
@@ -230,7 +285,7 @@ class SimArrayLike<T> implements ArrayLike<T>
 		try {
 			return new SimArrayLike<T>(arr.splice(start, deleteCount));
 		} catch (UnsupportedOperationException uoe) {
-			arr = new SimArray<T>(arr);
+			relayout(arr.length());
 			return new SimArrayLike<T>(arr.splice(start, deleteCount));
 		}
 	}
@@ -240,7 +295,7 @@ class SimArrayLike<T> implements ArrayLike<T>
 		try {
 			return new SimArrayLike<T>(arr.splice(start, deleteCount, value));
 		} catch (UnsupportedOperationException uoe) {
-			arr = new SimArray<T>(arr);
+			relayout(arr.length());
 			return new SimArrayLike<T>(arr.splice(start, deleteCount, value));
 		}
 	}
@@ -250,7 +305,7 @@ class SimArrayLike<T> implements ArrayLike<T>
 		try {
 			return new SimArrayLike<T>(arr.splice(start, deleteCount, args));
 		} catch (UnsupportedOperationException uoe) {
-			arr = new SimArray<T>(arr);
+			relayout(arr.length());
 			return new SimArrayLike<T>(arr.splice(start, deleteCount, args));
 		}
 	}
@@ -260,7 +315,7 @@ class SimArrayLike<T> implements ArrayLike<T>
 		try {
 			return arr.unshift(args);
 		} catch (UnsupportedOperationException uoe) {
-			arr = new SimArray<T>(arr);
+			relayout(arr.length());
 			return arr.unshift(args);
 		}
 	}
@@ -270,7 +325,7 @@ class SimArrayLike<T> implements ArrayLike<T>
 		try {
 			return arr.unshift(value);
 		} catch (UnsupportedOperationException uoe) {
-			arr = new SimArray<T>(arr);
+			relayout(arr.length());
 			return arr.unshift(value);
 		}
 	}
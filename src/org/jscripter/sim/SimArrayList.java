@@ -19,9 +19,7 @@
 
 package org.jscripter.sim;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
+import java.util.Arrays;
 
 import js.ArrayLike;
 import js.Js;
@@ -29,9 +27,13 @@ import js.Vars;
 import js.core.JsArray;
 import js.core.JsFunction;
 
-final class SimArrayList<T> extends ArrayList<T> implements ArrayLike<T>
+final class SimArrayList<T> implements ArrayLike<T>
 {
-	private static final long serialVersionUID = -7941589999600923231L;
+	private Object[] elems = new Object[8];
+	private int head;
+	private int size;
+	private int count;
+	private boolean shared;
 
 	public SimArrayList() {}
 
@@ -43,32 +45,147 @@ final class SimArrayList<T> extends ArrayList<T> implements ArrayLike<T>
 		}
 	}
 
+	private SimArrayList(SimArrayList<T> a, int from, int to) {
+		elems = a.elems;
+		head = (a.head + from) & (elems.length - 1);
+		size = to - from;
+		count = -1;
+		shared = a.shared = true;
+	}
+
+	private final void grow(int n) {
+		if (n > elems.length || shared) {
+			int cap = 8;
+			while (cap < n) {
+				cap <<= 1;
+			}
+			elems = toArray(new Object[cap]);
+			head = 0;
+			shared = false;
+		}
+	}
+
+	private final Object[] toArray(Object[] a) {
+		int n = Math.min(size, elems.length - head);
+		System.arraycopy(elems, head, a, 0, n);
+		System.arraycopy(elems, 0, a, n, size - n);
+		return a;
+	}
+
+	private final int count() {
+		if (count < 0) {
+			count = 0;
+			for (int j = 0, m = elems.length - 1; j < size; j++) {
+				if (elems[(head + j) & m] != null) {
+					count++;
+				}
+			}
+		}
+		return count;
+	}
+
+	private final void counted(Object old, Object v) {
+		if (count >= 0) {
+			count += (v != null ? 1 : 0) - (old != null ? 1 : 0);
+		}
+	}
+
+	private final SimArrayList<T> copy(int from, int to) {
+		SimArrayList<T> ret = new SimArrayList<T>();
+		ret.grow(to - from);
+		for (int j = from, m = elems.length - 1; j < to; j++) {
+			ret.counted(null, ret.elems[ret.size++] = elems[(head + j) & m]);
+		}
+		return ret;
+	}
+
+	private final SimArrayList<T> view(int from, int to) {
+		if ((to - from) << 2 < elems.length) {
+			return copy(from, to);
+		}
+		return new SimArrayList<T>(this, from, to);
+	}
+
+	private final SimArrayList<T> replace(int s, int d, Object[] items) {
+		SimArrayList<T> ret = copy(s, s + d);
+		if (count >= 0) {
+			count -= ret.count;
+		}
+		int delta = items.length - d;
+		grow(size + Math.max(delta, 0));
+		int m = elems.length - 1;
+		if (s < size - s - d) {
+			if (delta > 0) {
+				for (int j = 0; j < s; j++) {
+					elems[(head + j - delta) & m] = elems[(head + j) & m];
+				}
+			} else if (delta < 0) {
+				for (int j = s - 1; j >= 0; j--) {
+					elems[(head + j - delta) & m] = elems[(head + j) & m];
+				}
+				for (int j = 0; j < -delta; j++) {
+					elems[(head + j) & m] = null;
+				}
+			}
+			head = (head - delta) & m;
+		} else {
+			if (delta > 0) {
+				for (int j = size - 1; j >= s + d; j--) {
+					elems[(head + j + delta) & m] = elems[(head + j) & m];
+				}
+			} else if (delta < 0) {
+				for (int j = s + d; j < size; j++) {
+					elems[(head + j + delta) & m] = elems[(head + j) & m];
+				}
+				for (int j = size + delta; j < size; j++) {
+					elems[(head + j) & m] = null;
+				}
+			}
+		}
+		for (int j = 0; j < items.length; j++) {
+			counted(null, elems[(head + s + j) & m] = items[j]);
+		}
+		size += delta;
+		return ret;
+	}
+
+	private final static Object[] items(Vars<?> args) {
+		ArrayLike<?> a = args.var();
+		Object[] items = new Object[a.length()];
+		for (int i = 0; i < items.length; i++) {
+			items[i] = a.get(i);
+		}
+		return items;
+	}
+
 	//@Override
 	public final synchronized ArrayLike<T> concat(Vars<?> args) {
-		return SimArrays.concat(new SimArrayList<T>(), this, args);
+		SimArrayList<T> ret = view(0, size);
+		return args.var().length() > 0 ? SimArrays.append(ret, args) : ret;
 	}
 
 	//@Override
 	public final synchronized ArrayLike<T> concat(Object arg) {
-		return SimArrays.concat(new SimArrayList<T>(), this, arg);
+		return SimArrays.append(view(0, size), arg);
 	}
 
 	//@Override
 	public final synchronized boolean delete(int i) {
-		if (Js.be(get(i))) {
-			if (i == size() - 1) {
-				remove(i);
-			} else {
-				super.set(i, null);
+		if (get(i) != null) {
+			if (SimArrays.sparse(count() - 1, size)) {
+				throw new UnsupportedOperationException();
 			}
-			return true;
+			grow(size);
+			elems[(head + i) & (elems.length - 1)] = null;
+			count--;
 		}
-		return false;
+		return true;
 	}
 
+	@SuppressWarnings("unchecked")
 	//@Override
 	public final synchronized T get(int i) {
-		return i < size() ? super.get(i) : null;
+		return i >= 0 && i < size ? (T)elems[(head + i) & (elems.length - 1)] : null;
 	}
 
 	//@Override
@@ -83,12 +200,24 @@ final class SimArrayList<T> extends ArrayList<T> implements ArrayLike<T>
 
 	//@Override
 	public final synchronized int length() {
-		return size();
+		return size;
 	}
 
 	//@Override
 	public final synchronized int length(int len) {
-		throw new UnsupportedOperationException();
+		if (len < 0) {
+			throw new IllegalArgumentException();
+		}
+		if (len > size && SimArrays.sparse(count(), len)) {
+			throw new UnsupportedOperationException();
+		}
+		grow(Math.max(len, size));
+		for (int j = len, m = elems.length - 1; j < size; j++) {
+			counted(elems[(head + j) & m], null);
+			elems[(head + j) & m] = null;
+		}
+		size = len;
+		return len;
 	}
 
 	//@Override
@@ -101,119 +230,179 @@ final class SimArrayList<T> extends ArrayList<T> implements ArrayLike<T>
 		return null;
 	}
 
+	@SuppressWarnings("unchecked")
 	//@Override
 	public final synchronized T pop() {
-		return isEmpty() ? null : remove(size() - 1);
+		if (size == 0) {
+			return null;
+		}
+		grow(size);
+		int i = (head + --size) & (elems.length - 1);
+		T v = (T)elems[i];
+		elems[i] = null;
+		counted(v, null);
+		return v;
 	}
 
-	@SuppressWarnings("unchecked")
 	//@Override
 	public final synchronized int push(Object v) {
-		add((T)v);
-		return size();
+		grow(size + 1);
+		elems[(head + size) & (elems.length - 1)] = v;
+		counted(null, v);
+		return ++size;
 	}
 
-	@SuppressWarnings("unchecked")
 	//@Override
 	public final synchronized int push(Vars<?> args) {
 		ArrayLike<?> a = args.var();
-		for (int i = 0, len = a.length(); i < len; i++) {
-			add((T)a.get(i));
+		int n = a.length();
+		grow(size + n);
+		for (int i = 0; i < n; i++) {
+			counted(null, elems[(head + size++) & (elems.length - 1)] = a.get(i));
 		}
-		return size();
+		return size;
 	}
 
 	//@Override
 	public final synchronized void reverse() {
-		SimArrays.reverse(this);
+		grow(size);
+		int m = elems.length - 1;
+		for (int i = 0, j = size - 1; i < j; i++, j--) {
+			Object t = elems[(head + i) & m];
+			elems[(head + i) & m] = elems[(head + j) & m];
+			elems[(head + j) & m] = t;
+		}
 	}
 
 	//@Override
 	public final synchronized T set(int i, T v) {
-		if (i >= size()) {
-			throw new UnsupportedOperationException();
+		if (i < 0) {
+			throw new IndexOutOfBoundsException();
+		}
+		if (i >= size) {
+			if (i > size && SimArrays.sparse(count() + (v != null ? 1 : 0), i + 1)) {
+				throw new UnsupportedOperationException();
+			}
+			grow(i + 1);
+			size = i;
+			push(v);
+			return v;
 		}
-		super.set(i, v);
+		grow(size);
+		int j = (head + i) & (elems.length - 1);
+		counted(elems[j], v);
+		elems[j] = v;
 		return v;
 	}
 
+	@SuppressWarnings("unchecked")
 	//@Override
 	public final synchronized T shift() {
-		throw new UnsupportedOperationException();
+		if (size == 0) {
+			return null;
+		}
+		grow(size);
+		T v = (T)elems[head];
+		elems[head] = null;
+		counted(v, null);
+		head = (head + 1) & (elems.length - 1);
+		size--;
+		return v;
 	}
 
 	//@Override
 	public final synchronized ArrayLike<T> slice(Vars<?> args) {
-		return SimArrays.slice(this, args);
+		ArrayLike<?> a = args.var();
+		return a.length() < 2 ? slice(a.get(0)) : slice(a.get(0), a.get(1));
 	}
 
 	//@Override
 	public final synchronized ArrayLike<T> slice(Object start) {
-		return SimArrays.slice(this, start);
+		return view(SimArrays.start(start, size), size);
 	}
 
 	//@Override
 	public final synchronized ArrayLike<T> slice(Object start, Object end) {
-		return SimArrays.slice(this, start, end);
+		int s = SimArrays.start(start, size);
+		int e = Js.undefined(end) ? size : SimArrays.start(end, size);
+		return view(s, Math.max(s, e));
+	}
+
+	private final void sorted(Object[] a) {
+		grow(size);
+		System.arraycopy(a, 0, elems, 0, size);
+		Arrays.fill(elems, size, elems.length, null);
+		head = 0;
 	}
 
 	//@Override
 	public final synchronized ArrayLike<T> sort() {
-		Collections.sort(this, new Comparator<T>() {
-			//@Override
-			public int compare(T arg0, T arg1) {
-				double a = SimUtil.getNumber(arg0).doubleValue(),
-				       b = SimUtil.getNumber(arg1).doubleValue();
-			return a > b ? 1 : a < b ? -1 : 0;
-			}
-		});
+		Object[] a = toArray(new Object[size]);
+		SimSort.sort(a, size);
+		sorted(a);
 		return this;
 	}
 
 	//@Override
-	public final synchronized ArrayLike<T> sort(final JsFunction<? extends Number> orderfunc) {
-		Collections.sort(this, new Comparator<T>() {
-			//@Override
-			public int compare(T arg0, T arg1) {
-				return orderfunc.invoke(new Vars<T>().add(arg0).add(arg1)).intValue();
-			}
-		});
+	public final synchronized ArrayLike<T> sort(JsFunction<? extends Number> orderfunc) {
+		Object[] a = toArray(new Object[size]);
+		SimSort.sort(a, size, orderfunc);
+		sorted(a);
 		return this;
 	}
 
 	//@Override
 	public final synchronized ArrayLike<T> splice(Vars<?> args) {
-		throw new UnsupportedOperationException();
+		ArrayLike<?> a = args.var();
+		int len = a.length();
+		if (len == 1) {
+			return splice(a.get(0));
+		}
+		int s = SimArrays.start(a.get(0), size);
+		Object[] items = new Object[Math.max(len - 2, 0)];
+		for (int i = 0; i < items.length; i++) {
+			items[i] = a.get(i + 2);
+		}
+		return replace(s, SimArrays.count(a.get(1), s, size), items);
 	}
 
 	//@Override
 	public final synchronized ArrayLike<T> splice(Object start) {
-		throw new UnsupportedOperationException();
+		int s = SimArrays.start(start, size);
+		return replace(s, size - s, new Object[0]);
 	}
 
 	//@Override
 	public final synchronized ArrayLike<T> splice(Object start, Object deleteCount) {
-		throw new UnsupportedOperationException();
+		int s = SimArrays.start(start, size);
+		return replace(s, SimArrays.count(deleteCount, s, size), new Object[0]);
 	}
 
 	//@Override
 	public final synchronized ArrayLike<T> splice(Object start, Object deleteCount, Object value) {
-		throw new UnsupportedOperationException();
+		int s = SimArrays.start(start, size);
+		return replace(s, SimArrays.count(deleteCount, s, size), new Object[]{value});
 	}
 
 	//@Override
 	public final synchronized ArrayLike<T> splice(Object start, Object deleteCount, Vars<?> args) {
-		throw new UnsupportedOperationException();
+		int s = SimArrays.start(start, size);
+		return replace(s, SimArrays.count(deleteCount, s, size), items(args));
 	}
 
 	//@Override
 	public final synchronized int unshift(Vars<?> args) {
-		throw new UnsupportedOperationException();
+		replace(0, 0, items(args));
+		return size;
 	}
 
 	//@Override
 	public final synchronized int unshift(Object value) {
-		throw new UnsupportedOperationException();
+		grow(size + 1);
+		head = (head - 1) & (elems.length - 1);
+		elems[head] = value;
+		counted(null, value);
+		return ++size;
 	}
 
 	//@Override
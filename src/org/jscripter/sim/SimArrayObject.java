@@ -19,9 +19,6 @@
 
 package org.jscripter.sim;
 
-import java.util.Arrays;
-import java.util.Comparator;
-
 import js.ArrayLike;
 import js.Js;
 import js.Vars;
@@ -141,20 +138,13 @@ final class SimArrayObject<T> implements ArrayLike<T>
 
 	//@Override
 	public final synchronized ArrayLike<T> sort() {
-		Arrays.sort(arr);
+		SimSort.sort(arr, arr.length);
 		return this;
 	}
 
 	//@Override
-	public final synchronized ArrayLike<T> sort(final JsFunction<? extends Number> orderfunc) {
-		Arrays.sort(arr, new Comparator<T>() {
-			//@Override
-			public final synchronized int compare(T arg0, T arg1) {
-				return orderfunc.invoke(
-						new Vars<T>().add(arg0).add(arg1)
-				).intValue();
-			}
-		});
+	public final synchronized ArrayLike<T> sort(JsFunction<? extends Number> orderfunc) {
+		SimSort.sort(arr, arr.length, orderfunc);
 		return this;
 	}
 
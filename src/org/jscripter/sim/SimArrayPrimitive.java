@@ -19,20 +19,10 @@
 
 package org.jscripter.sim;
 
-import js.core.JsFunction;
-
-abstract class SimThread extends Thread
+interface SimArrayPrimitive
 {
-	protected final JsFunction<?> f;
-	protected final Number delay;
-	protected boolean clear;
-
-	SimThread(final JsFunction<?> f, final Number delay) {
-		this.f = f;
-		this.delay = delay;
-	}
-
-	public final void clear() {
-		clear = true;
-	}
+	public int getInt(int i);
+	public double getDouble(int i);
+	public void setInt(int i, int v);
+	public void setDouble(int i, double v);
 }
@@ -0,0 +1,424 @@
+
+/*
+ *  JScripter Simulation 1.0 - For Java To Script
+ *  Copyright (C) 2008-2011  J.J.Liu<jianjunliu@126.com> <http://www.jscripter.org>
+ *  
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Affero General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *  
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Affero General Public License for more details.
+ *  
+ *  You should have received a copy of the GNU Affero General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.jscripter.sim;
+
+import js.ArrayLike;
+import js.Js;
+import js.Vars;
+import js.core.JsArray;
+import js.core.JsFunction;
+
+final class SimArraySparse<T> implements ArrayLike<T>
+{
+	private int[] keys = new int[8];
+	private Object[] vals = new Object[8];
+	private int count;
+	private int length;
+
+	public SimArraySparse() {}
+
+	public SimArraySparse(ArrayLike<T> a) {
+		synchronized(a) {
+			for (int i = 0, len = a.length(); i < len; i++) {
+				Object v = a.get(i);
+				if (v != null) {
+					insert(count, i, v);
+				}
+			}
+			length = a.length();
+		}
+	}
+
+	private final void grow(int n) {
+		if (n > keys.length) {
+			int cap = Math.max(n, keys.length + (keys.length >> 1));
+			int[] k = new int[cap];
+			Object[] v = new Object[cap];
+			System.arraycopy(keys, 0, k, 0, count);
+			System.arraycopy(vals, 0, v, 0, count);
+			keys = k;
+			vals = v;
+		}
+	}
+
+	private final int find(int i) {
+		int lo = 0, hi = count - 1;
+		while (lo <= hi) {
+			int mid = (lo + hi) >>> 1;
+			if (keys[mid] < i) {
+				lo = mid + 1;
+			} else if (keys[mid] > i) {
+				hi = mid - 1;
+			} else {
+				return mid;
+			}
+		}
+		return -(lo + 1);
+	}
+
+	private final int lower(int i) {
+		int at = find(i);
+		return at < 0 ? -at - 1 : at;
+	}
+
+	private final void insert(int at, int i, Object v) {
+		grow(count + 1);
+		System.arraycopy(keys, at, keys, at + 1, count - at);
+		System.arraycopy(vals, at, vals, at + 1, count - at);
+		keys[at] = i;
+		vals[at] = v;
+		count++;
+	}
+
+	private final void remove(int from, int to) {
+		System.arraycopy(keys, to, keys, from, count - to);
+		System.arraycopy(vals, to, vals, from, count - to);
+		for (int j = count - to + from; j < count; j++) {
+			vals[j] = null;
+		}
+		count -= to - from;
+	}
+
+	private final void move(int from, int delta) {
+		for (int j = from; j < count; j++) {
+			keys[j] += delta;
+		}
+	}
+
+	private final static int defined(Object[] items) {
+		int n = 0;
+		for (int j = 0; j < items.length; j++) {
+			if (items[j] != null) {
+				n++;
+			}
+		}
+		return n;
+	}
+
+	private final static void check(int count, int length) {
+		if (SimArrays.dense(count, length)) {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+	private final SimArraySparse<T> copy(int from, int to) {
+		SimArraySparse<T> ret = new SimArraySparse<T>();
+		int s = lower(from), e = lower(to);
+		ret.grow(e - s);
+		for (int j = s; j < e; j++) {
+			ret.keys[ret.count] = keys[j] - from;
+			ret.vals[ret.count++] = vals[j];
+		}
+		ret.length = to - from;
+		return ret;
+	}
+
+	private final SimArraySparse<T> replace(int s, int d, Object[] items) {
+		check(count + defined(items), length + items.length - d);
+		SimArraySparse<T> ret = copy(s, s + d);
+		int at = lower(s);
+		remove(at, lower(s + d));
+		move(at, items.length - d);
+		for (int j = 0; j < items.length; j++) {
+			if (items[j] != null) {
+				insert(at++, s + j, items[j]);
+			}
+		}
+		length += items.length - d;
+		return ret;
+	}
+
+	private final static Object[] items(Vars<?> args) {
+		ArrayLike<?> a = args.var();
+		Object[] items = new Object[a.length()];
+		for (int i = 0; i < items.length; i++) {
+			items[i] = a.get(i);
+		}
+		return items;
+	}
+
+	//@Override
+	public final synchronized ArrayLike<T> concat(Vars<?> args) {
+		return SimArrays.append(copy(0, length), args);
+	}
+
+	//@Override
+	public final synchronized ArrayLike<T> concat(Object arg) {
+		return SimArrays.append(copy(0, length), arg);
+	}
+
+	//@Override
+	public final synchronized boolean delete(int i) {
+		int at = find(i);
+		if (at >= 0) {
+			remove(at, at + 1);
+		}
+		return true;
+	}
+
+	@SuppressWarnings("unchecked")
+	//@Override
+	public final synchronized T get(int i) {
+		int at = find(i);
+		return at < 0 ? null : (T)vals[at];
+	}
+
+	//@Override
+	public final synchronized String join() {
+		return join(null);
+	}
+
+	//@Override
+	public final synchronized String join(Object separator) {
+		String sep = Js.undefined(separator) ? "," : Js.toString(separator);
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0, j = 0; i < length; i++) {
+			if (i > 0) {
+				sb.append(sep);
+			}
+			if (j < count && keys[j] == i) {
+				sb.append(Js.toString(vals[j++]));
+			}
+		}
+		return sb.toString();
+	}
+
+	//@Override
+	public final synchronized int length() {
+		return length;
+	}
+
+	//@Override
+	public final synchronized int length(int len) {
+		if (len < 0) {
+			throw new IllegalArgumentException();
+		}
+		if (len < length) {
+			int at = lower(len);
+			check(at, len);
+			remove(at, count);
+		}
+		length = len;
+		return len;
+	}
+
+	//@Override
+	public final Integer index() {
+		return null;
+	}
+
+	//@Override
+	public final String input() {
+		return null;
+	}
+
+	@SuppressWarnings("unchecked")
+	//@Override
+	public final synchronized T pop() {
+		if (length == 0) {
+			return null;
+		}
+		Object v = null;
+		if (count > 0 && keys[count - 1] == length - 1) {
+			v = vals[count - 1];
+			remove(count - 1, count);
+		}
+		length--;
+		return (T)v;
+	}
+
+	//@Override
+	public final synchronized int push(Object v) {
+		if (v != null) {
+			check(count + 1, length + 1);
+			insert(count, length, v);
+		}
+		return ++length;
+	}
+
+	//@Override
+	public final synchronized int push(Vars<?> args) {
+		Object[] items = items(args);
+		check(count + defined(items), length + items.length);
+		for (int j = 0; j < items.length; j++, length++) {
+			if (items[j] != null) {
+				insert(count, length, items[j]);
+			}
+		}
+		return length;
+	}
+
+	//@Override
+	public final synchronized void reverse() {
+		for (int i = 0, j = count - 1; i <= j; i++, j--) {
+			int k = keys[i];
+			Object v = vals[i];
+			keys[i] = length - 1 - keys[j];
+			vals[i] = vals[j];
+			keys[j] = length - 1 - k;
+			vals[j] = v;
+		}
+	}
+
+	//@Override
+	public final synchronized T set(int i, T v) {
+		if (i < 0) {
+			throw new IndexOutOfBoundsException();
+		}
+		int at = find(i);
+		if (v == null) {
+			if (at >= 0) {
+				remove(at, at + 1);
+			}
+		} else if (at >= 0) {
+			vals[at] = v;
+		} else {
+			check(count + 1, Math.max(length, i + 1));
+			insert(-at - 1, i, v);
+		}
+		length = Math.max(length, i + 1);
+		return v;
+	}
+
+	@SuppressWarnings("unchecked")
+	//@Override
+	public final synchronized T shift() {
+		if (length == 0) {
+			return null;
+		}
+		Object v = null;
+		if (count > 0 && keys[0] == 0) {
+			v = vals[0];
+			remove(0, 1);
+		}
+		move(0, -1);
+		length--;
+		return (T)v;
+	}
+
+	//@Override
+	public final synchronized ArrayLike<T> slice(Vars<?> args) {
+		ArrayLike<?> a = args.var();
+		return a.length() < 2 ? slice(a.get(0)) : slice(a.get(0), a.get(1));
+	}
+
+	//@Override
+	public final synchronized ArrayLike<T> slice(Object start) {
+		return copy(SimArrays.start(start, length), length);
+	}
+
+	//@Override
+	public final synchronized ArrayLike<T> slice(Object start, Object end) {
+		int s = SimArrays.start(start, length);
+		int e = Js.undefined(end) ? length : SimArrays.start(end, length);
+		return copy(s, Math.max(s, e));
+	}
+
+	private final void sorted(Object[] a) {
+		System.arraycopy(a, 0, vals, 0, count);
+		for (int j = 0; j < count; j++) {
+			keys[j] = j;
+		}
+	}
+
+	//@Override
+	public final synchronized ArrayLike<T> sort() {
+		Object[] a = new Object[count];
+		System.arraycopy(vals, 0, a, 0, count);
+		SimSort.sort(a, count);
+		sorted(a);
+		return this;
+	}
+
+	//@Override
+	public final synchronized ArrayLike<T> sort(JsFunction<? extends Number> orderfunc) {
+		Object[] a = new Object[count];
+		System.arraycopy(vals, 0, a, 0, count);
+		SimSort.sort(a, count, orderfunc);
+		sorted(a);
+		return this;
+	}
+
+	//@Override
+	public final synchronized ArrayLike<T> splice(Vars<?> args) {
+		ArrayLike<?> a = args.var();
+		int len = a.length();
+		if (len == 1) {
+			return splice(a.get(0));
+		}
+		int s = SimArrays.start(a.get(0), length);
+		Object[] items = new Object[Math.max(len - 2, 0)];
+		for (int i = 0; i < items.length; i++) {
+			items[i] = a.get(i + 2);
+		}
+		return replace(s, SimArrays.count(a.get(1), s, length), items);
+	}
+
+	//@Override
+	public final synchronized ArrayLike<T> splice(Object start) {
+		int s = SimArrays.start(start, length);
+		return replace(s, length - s, new Object[0]);
+	}
+
+	//@Override
+	public final synchronized ArrayLike<T> splice(Object start, Object deleteCount) {
+		int s = SimArrays.start(start, length);
+		return replace(s, SimArrays.count(deleteCount, s, length), new Object[0]);
+	}
+
+	//@Override
+	public final synchronized ArrayLike<T> splice(Object start, Object deleteCount, Object value) {
+		int s = SimArrays.start(start, length);
+		return replace(s, SimArrays.count(deleteCount, s, length), new Object[]{value});
+	}
+
+	//@Override
+	public final synchronized ArrayLike<T> splice(Object start, Object deleteCount, Vars<?> args) {
+		int s = SimArrays.start(start, length);
+		return replace(s, SimArrays.count(deleteCount, s, length), items(args));
+	}
+
+	//@Override
+	public final synchronized int unshift(Vars<?> args) {
+		replace(0, 0, items(args));
+		return length;
+	}
+
+	//@Override
+	public final synchronized int unshift(Object value) {
+		replace(0, 0, new Object[]{value});
+		return length;
+	}
+
+	//@Override
+	public final String toString() {
+		return join();
+	}
+
+	//@Override
+	public final synchronized ArrayLike<T> valueOf() {
+		return this;
+	}
+
+	//@Override
+	public final JsArray var() {
+		throw new UnsupportedOperationException();
+	}
+}
@@ -26,32 +26,45 @@ import js.Vars;
 
 final class SimArrays
 {
+	private final static int DENSE = 64;
+
 	private SimArrays() {}
 
+	public final static boolean sparse(int count, int length) {
+		return length > DENSE && count < length >> 3;
+	}
+
+	public final static boolean dense(int count, int length) {
+		return length <= DENSE || count >= length >> 1;
+	}
+
+	public final static int start(Object start, int len) {
+		int i = Js.undefined(start) ? 0 : SimUtil.getNumber(start).intValue();
+		return i < 0 ? Math.max(i + len, 0) : Math.min(i, len);
+	}
+
+	public final static int count(Object count, int start, int len) {
+		if (Js.undefined(count)) {
+			return 0;
+		}
+		return Math.max(Math.min(SimUtil.getNumber(count).intValue(), len - start), 0);
+	}
+
 	private final static void concat(ArrayLike<?> dst, ArrayObject<?> src) {
 		for (int i = 0, len = src.length(); i < len; i++) {
 			dst.push(src.get(i));
 		}
 	}
 
-	public final static <T> ArrayLike<T> concat(
-			ArrayLike<T> dst, ArrayLike<T> src, Vars<?> args) {
-		concat(dst, src);
+	public final static <T> ArrayLike<T> append(ArrayLike<T> dst, Vars<?> args) {
 		ArrayLike<?> aa = args.var();
 		for (int i = 0, len = aa.length(); i < len; i++) {
-			Object arg = aa.get(i);
-			if (arg instanceof ArrayObject<?>) {
-				concat(dst, (ArrayObject<?>)arg);
-			} else {
-				dst.push(arg);
-			}
+			append(dst, aa.get(i));
 		}
 		return dst;
 	}
 
-	public final static <T> ArrayLike<T> concat(
-			ArrayLike<T> dst, ArrayLike<T> src, Object arg) {
-		concat(dst, src);
+	public final static <T> ArrayLike<T> append(ArrayLike<T> dst, Object arg) {
 		if (arg instanceof ArrayObject<?>) {
 			concat(dst, (ArrayObject<?>)arg);
 		} else {
@@ -60,17 +73,37 @@ final class SimArrays
 		return dst;
 	}
 
+	public final static <T> ArrayLike<T> concat(
+			ArrayLike<T> dst, ArrayLike<T> src, Vars<?> args) {
+		concat(dst, src);
+		return append(dst, args);
+	}
+
+	public final static <T> ArrayLike<T> concat(
+			ArrayLike<T> dst, ArrayLike<T> src, Object arg) {
+		concat(dst, src);
+		return append(dst, arg);
+	}
+
 	public final static String join(ArrayLike<?> arr) {
 		StringBuilder sb = new StringBuilder();
 		for (int i = 0, len = arr.length(); i < len; i++) {
 			if (i > 0) {
 				sb.append(',');
 			}
-			sb.append(Js.toString(arr.get(i)));
+			append(sb, arr.get(i));
 		}
 		return sb.toString();
 	}
 
+	private final static void append(StringBuilder sb, Object v) {
+		if (v instanceof Number) {
+			SimFormat.append(sb, (Number)v);
+		} else if (!Js.undefined(v)) {
+			sb.append(Js.toString(v));
+		}
+	}
+
 	public final static String join(ArrayLike<?> arr, Object separator) {
 		if (Js.undefined(separator)) {
 			return join(arr);
@@ -80,7 +113,7 @@ final class SimArrays
 			if (i > 0) {
 				sb.append(Js.toString(separator));
 			}
-			sb.append(Js.toString(arr.get(i)));
+			append(sb, arr.get(i));
 		}
 		return sb.toString();
 	}
@@ -104,10 +137,8 @@ final class SimArrays
 
 	public final static <T> ArrayLike<T> slice(ArrayLike<T> arr, Object start) {
 		ArrayLike<T> a = new SimArrayList<T>();
-		int from = SimUtil.getNumber(start).intValue();
 		int len = arr.length();
-		from = from < 0 ? from + len : from;
-		for (int i = from; i < len; i++) {
+		for (int i = start(start, len); i < len; i++) {
 			a.push(arr.get(i));
 		}
 		return a;
@@ -115,12 +146,9 @@ final class SimArrays
 
 	public final static <T> ArrayLike<T> slice(ArrayLike<T> arr, Object start, Object end) {
 		ArrayLike<T> a = new SimArrayList<T>();
-		int from = SimUtil.getNumber(start).intValue();
-		int to   = SimUtil.getNumber(end  ).intValue();
 		int len = arr.length();
-		from = from < 0 ? from + len : from;
-		to   = to   < 0 ? to   + len : to;
-		for (int i = from; i < len; i++) {
+		int to = Js.undefined(end) ? len : start(end, len);
+		for (int i = start(start, len); i < to; i++) {
 			a.push(arr.get(i));
 		}
 		return a;
@@ -132,7 +160,7 @@ final class SimArrays
 			if (i > 0) {
 				sb.append(",");
 			}
-			sb.append(Js.toString(arr.get(i)));
+			append(sb, arr.get(i));
 		}
 		return sb.toString();
 	}
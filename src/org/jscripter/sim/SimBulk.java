@@ -0,0 +1,184 @@
+
+/*
+ *  JScripter Simulation 1.0 - For Java To Script
+ *  Copyright (C) 2008-2011  J.J.Liu<jianjunliu@126.com> <http://www.jscripter.org>
+ *  
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Affero General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *  
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Affero General Public License for more details.
+ *  
+ *  You should have received a copy of the GNU Affero General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.jscripter.sim;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import js.ArrayLike;
+import js.Context;
+import js.Js;
+import js.core.JsFunction;
+
+final class SimBulk
+{
+	private static final int PARALLEL = 1 << 14;
+
+	private SimBulk() {}
+
+	private static abstract class Part
+	{
+		abstract Object run(Object[] values, int from, int to);
+	}
+
+	private static final boolean primitive(ArrayLike<?> a) {
+		return a instanceof SimArrayLike<?> ? ((SimArrayLike<?>)a).primitive() :
+			a instanceof SimArrayPrimitive;
+	}
+
+	private static final Object[] run(final Part part, final Object[] values, int parallelism) {
+		int n = values.length;
+		if (n < PARALLEL || parallelism < 2) {
+			return new Object[]{part.run(values, 0, n)};
+		}
+		int parts = Math.min(parallelism, n / (PARALLEL >> 1));
+		final Context c = Context.current();
+		List<Callable<Object>> tasks = new ArrayList<Callable<Object>>(parts);
+		final Object[] ret = new Object[parts];
+		for (int i = 0; i < parts; i++) {
+			final int p = i;
+			final int from = (int)((long)n * i / parts), to = (int)((long)n * (i + 1) / parts);
+			tasks.add(new Callable<Object>() {
+				//@Override
+				public Object call() {
+					if (c != null) {
+						c.enter();
+					}
+					try {
+						ret[p] = part.run(values, from, to);
+					} finally {
+						if (c != null) {
+							c.exit();
+						}
+					}
+					return null;
+				}
+			});
+		}
+		SimPool.invoke(tasks);
+		return ret;
+	}
+
+	private static final Object[] values(ArrayLike<?> a, int from, int to) {
+		synchronized(a) {
+			Object[] values = new Object[Math.max(Math.min(to, a.length()) - from, 0)];
+			for (int i = 0; i < values.length; i++) {
+				values[i] = a.get(from + i);
+			}
+			return values;
+		}
+	}
+
+	private static final int parallelism(ArrayLike<?> a, int parallelism) {
+		return primitive(a) ? parallelism : 1;
+	}
+
+	public final static <T> ArrayLike<T> map(ArrayLike<?> a, final JsFunction<T> f,
+			int from, int to, int parallelism) {
+		final int start = Math.max(from, 0);
+		Object[] values = values(a, start, to);
+		final Object[] results = new Object[values.length];
+		run(new Part() {
+			@Override
+			final Object run(Object[] values, int s, int e) {
+				for (int i = s; i < e; i++) {
+					results[i] = f.invoke(values[i], start + i);
+				}
+				return null;
+			}
+		}, values, parallelism(a, parallelism));
+		SimArrayList<T> ret = new SimArrayList<T>();
+		for (int i = 0; i < results.length; i++) {
+			ret.push(results[i]);
+		}
+		return new SimArrayLike<T>(ret);
+	}
+
+	public final static <T> ArrayLike<T> filter(ArrayLike<T> a, final JsFunction<?> f,
+			int from, int to, int parallelism) {
+		final int start = Math.max(from, 0);
+		Object[] values = values(a, start, to);
+		final boolean[] kept = new boolean[values.length];
+		run(new Part() {
+			@Override
+			final Object run(Object[] values, int s, int e) {
+				for (int i = s; i < e; i++) {
+					kept[i] = Js.be(f.invoke(values[i], start + i));
+				}
+				return null;
+			}
+		}, values, parallelism(a, parallelism));
+		SimArrayList<T> ret = new SimArrayList<T>();
+		for (int i = 0; i < values.length; i++) {
+			if (kept[i]) {
+				ret.push(values[i]);
+			}
+		}
+		return new SimArrayLike<T>(ret);
+	}
+
+	@SuppressWarnings("unchecked")
+	public final static <T> T reduce(ArrayLike<?> a, JsFunction<T> f, Object initial,
+			int from, int to) {
+		Object[] values = values(a, Math.max(from, 0), to);
+		Object v = initial;
+		for (int i = 0; i < values.length; i++) {
+			v = f.invoke(v, values[i]);
+		}
+		return (T)v;
+	}
+
+	public final static void forEach(ArrayLike<?> a, final JsFunction<?> f,
+			int from, int to, int parallelism) {
+		final int start = Math.max(from, 0);
+		run(new Part() {
+			@Override
+			final Object run(Object[] values, int s, int e) {
+				for (int i = s; i < e; i++) {
+					f.invoke(values[i], start + i);
+				}
+				return null;
+			}
+		}, values(a, start, to), parallelism(a, parallelism));
+	}
+
+	public final static int indexOf(ArrayLike<?> a, final Object v,
+			int from, int to, int parallelism) {
+		int start = Math.max(from, 0);
+		Object[] partials = run(new Part() {
+			@Override
+			final Object run(Object[] values, int s, int e) {
+				for (int i = s; i < e; i++) {
+					if (Js.eq(values[i], v)) {
+						return i;
+					}
+				}
+				return null;
+			}
+		}, values(a, start, to), parallelism(a, parallelism));
+		for (int i = 0; i < partials.length; i++) {
+			if (partials[i] != null) {
+				return start + (Integer)partials[i];
+			}
+		}
+		return -1;
+	}
+}
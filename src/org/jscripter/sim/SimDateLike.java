@@ -38,7 +38,7 @@ final class SimDateLike implements DateLike
 
 	public SimDateLike() {
 		cal = new GregorianCalendar();
-		cal.setTime(new Date());
+		cal.setTime(new Date(SimLoop.current().now()));
 	}
 	public SimDateLike(Number n) {
 		cal = new GregorianCalendar();
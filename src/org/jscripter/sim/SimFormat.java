@@ -0,0 +1,319 @@
+
+/*
+ *  JScripter Simulation 1.0 - For Java To Script
+ *  Copyright (C) 2008-2011  J.J.Liu<jianjunliu@126.com> <http://www.jscripter.org>
+ *  
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Affero General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *  
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Affero General Public License for more details.
+ *  
+ *  You should have received a copy of the GNU Affero General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.jscripter.sim;
+
+import java.math.BigInteger;
+
+final class SimFormat
+{
+	private static final int CACHED = 1024;
+	private static final String[] cache = new String[CACHED * 2];
+	private static final double EXACT = 9007199254740992.0;
+	private static final float EXACT_FLOAT = 16777216.0f;
+
+	private static final int K_MIN = -324;
+	private static final int K_MAX = 292;
+	private static final long MASK_63 = 0x7FFFFFFFFFFFFFFFL;
+	private static final long MASK_32 = 0xFFFFFFFFL;
+
+	private SimFormat() {}
+
+	// The shortest decimal digits that round-trip to a double or a float are
+	// found with the Schubfach algorithm by R. Giulietti, which needs the
+	// 126-bit values g = floor(10^-k 2^-r) + 1 with 2^125 <= g < 2^126.
+	private static final class Holder
+	{
+		static final long[] g = new long[(K_MAX - K_MIN + 1) * 2];
+
+		static {
+			BigInteger ten = BigInteger.valueOf(10);
+			for (int k = K_MIN; k <= K_MAX; k++) {
+				int r = flog2pow10(-k) - 125;
+				BigInteger num = k <= 0 ? ten.pow(-k) : BigInteger.ONE;
+				BigInteger den = k <= 0 ? BigInteger.ONE : ten.pow(k);
+				if (r < 0) {
+					num = num.shiftLeft(-r);
+				} else {
+					den = den.shiftLeft(r);
+				}
+				BigInteger v = num.divide(den).add(BigInteger.ONE);
+				g[(k - K_MIN) << 1] = v.shiftRight(63).longValue();
+				g[(k - K_MIN) << 1 | 1] = v.longValue() & MASK_63;
+			}
+		}
+	}
+
+	static final String toString(Number n) {
+		if (n instanceof Integer) {
+			return toString(((Integer)n).intValue());
+		}
+		if (n instanceof Double) {
+			return toString(n.doubleValue());
+		}
+		if (n instanceof Float) {
+			return toString(n.floatValue());
+		}
+		return n.toString();
+	}
+
+	static final String toString(int v) {
+		if (v < -CACHED || v >= CACHED) {
+			return Integer.toString(v);
+		}
+		String s = cache[v + CACHED];
+		if (s == null) {
+			s = Integer.toString(v);
+			cache[v + CACHED] = s;
+		}
+		return s;
+	}
+
+	static final String toString(double v) {
+		int i = (int)v;
+		if (i == v && (i != 0 || 1 / v > 0)) {
+			return toString(i);
+		}
+		return append(new StringBuilder(24), v).toString();
+	}
+
+	static final String toString(float v) {
+		int i = (int)v;
+		if (i == v && (i != 0 || 1 / v > 0) && i < EXACT_FLOAT && i > -EXACT_FLOAT) {
+			return toString(i);
+		}
+		return append(new StringBuilder(16), v).toString();
+	}
+
+	static final StringBuilder append(StringBuilder sb, Number n) {
+		if (n instanceof Integer) {
+			return sb.append(((Integer)n).intValue());
+		}
+		if (n instanceof Double) {
+			return append(sb, n.doubleValue());
+		}
+		if (n instanceof Float) {
+			return append(sb, n.floatValue());
+		}
+		return sb.append(n.toString());
+	}
+
+	static final StringBuilder append(StringBuilder sb, double v) {
+		if (v != v) {
+			return sb.append("NaN");
+		}
+		if (v == 0) {
+			return sb.append('0');
+		}
+		if (v < 0) {
+			sb.append('-');
+			v = -v;
+		}
+		if (v == Double.POSITIVE_INFINITY) {
+			return sb.append("Infinity");
+		}
+		if (v < EXACT && v == (long)v) {
+			return sb.append((long)v);
+		}
+		long bits = Double.doubleToRawLongBits(v);
+		long t = bits & 0xFFFFFFFFFFFFFL;
+		int bq = (int)(bits >>> 52) & 0x7FF;
+		if (bq == 0) {
+			return t < 3 ? toDecimal(sb, -1074, 10 * t, -1) : toDecimal(sb, -1074, t, 0);
+		}
+		return toDecimal(sb, bq - 1075, 1L << 52 | t, 0);
+	}
+
+	static final StringBuilder append(StringBuilder sb, float v) {
+		if (v != v) {
+			return sb.append("NaN");
+		}
+		if (v == 0) {
+			return sb.append('0');
+		}
+		if (v < 0) {
+			sb.append('-');
+			v = -v;
+		}
+		if (v == Float.POSITIVE_INFINITY) {
+			return sb.append("Infinity");
+		}
+		if (v < EXACT_FLOAT && v == (int)v) {
+			return sb.append((int)v);
+		}
+		int bits = Float.floatToRawIntBits(v);
+		int t = bits & 0x7FFFFF;
+		int bq = (bits >>> 23) & 0xFF;
+		if (bq == 0) {
+			return toDecimal(sb, -149, t, 0);
+		}
+		return toDecimal(sb, bq - 150, 1 << 23 | t, 0);
+	}
+
+	private static final StringBuilder toDecimal(StringBuilder sb, int q, long c, int dk) {
+		long out = c & 1;
+		long cb = c << 2;
+		long cbr = cb + 2;
+		long cbl;
+		int k;
+		if (c != 1L << 52 || q == -1074) {
+			cbl = cb - 2;
+			k = flog10pow2(q);
+		} else {
+			cbl = cb - 1;
+			k = flog10threeQuartersPow2(q);
+		}
+		int h = q + flog2pow10(-k) + 2;
+		long[] g = Holder.g;
+		long g1 = g[(k - K_MIN) << 1];
+		long g0 = g[(k - K_MIN) << 1 | 1];
+		long vb = rop(g1, g0, cb << h);
+		long vbl = rop(g1, g0, cbl << h);
+		long vbr = rop(g1, g0, cbr << h);
+		long s = vb >> 2;
+		if (s >= 10) {
+			long sp10 = 10 * multiplyHigh(s, 115292150460684698L << 4);
+			long tp10 = sp10 + 10;
+			boolean upin = vbl + out <= sp10 << 2;
+			boolean wpin = (tp10 << 2) + out <= vbr;
+			if (upin != wpin) {
+				return layout(sb, upin ? sp10 : tp10, k + dk);
+			}
+		}
+		long t = s + 1;
+		boolean uin = vbl + out <= s << 2;
+		boolean win = (t << 2) + out <= vbr;
+		if (uin != win) {
+			return layout(sb, uin ? s : t, k + dk);
+		}
+		long cmp = vb - (s + t << 1);
+		return layout(sb, cmp < 0 || cmp == 0 && (s & 1) == 0 ? s : t, k + dk);
+	}
+
+	private static final StringBuilder toDecimal(StringBuilder sb, int q, int c, int dk) {
+		int out = c & 1;
+		long cb = c << 2;
+		long cbr = cb + 2;
+		long cbl;
+		int k;
+		if (c != 1 << 23 || q == -149) {
+			cbl = cb - 2;
+			k = flog10pow2(q);
+		} else {
+			cbl = cb - 1;
+			k = flog10threeQuartersPow2(q);
+		}
+		int h = q + flog2pow10(-k) + 33;
+		long g = Holder.g[(k - K_MIN) << 1] + 1;
+		int vb = rop(g, cb << h);
+		int vbl = rop(g, cbl << h);
+		int vbr = rop(g, cbr << h);
+		int s = vb >> 2;
+		if (s >= 10) {
+			int sp10 = 10 * (int)(s * 1717986919L >>> 34);
+			int tp10 = sp10 + 10;
+			boolean upin = vbl + out <= sp10 << 2;
+			boolean wpin = (tp10 << 2) + out <= vbr;
+			if (upin != wpin) {
+				return layout(sb, upin ? sp10 : tp10, k + dk);
+			}
+		}
+		int t = s + 1;
+		boolean uin = vbl + out <= s << 2;
+		boolean win = (t << 2) + out <= vbr;
+		if (uin != win) {
+			return layout(sb, uin ? s : t, k + dk);
+		}
+		int cmp = vb - (s + t << 1);
+		return layout(sb, cmp < 0 || cmp == 0 && (s & 1) == 0 ? s : t, k + dk);
+	}
+
+	private static final long rop(long g1, long g0, long cp) {
+		long x1 = multiplyHigh(g0, cp);
+		long y0 = g1 * cp;
+		long y1 = multiplyHigh(g1, cp);
+		long z = (y0 >>> 1) + x1;
+		long vbp = y1 + (z >>> 63);
+		return vbp | (z & MASK_63) + MASK_63 >>> 63;
+	}
+
+	private static final int rop(long g, long cp) {
+		long x1 = multiplyHigh(g, cp);
+		long vbp = x1 >>> 31;
+		return (int)(vbp | (x1 & MASK_32) + MASK_32 >>> 32);
+	}
+
+	private static final long multiplyHigh(long x, long y) {
+		long x1 = x >> 32, x2 = x & MASK_32;
+		long y1 = y >> 32, y2 = y & MASK_32;
+		long z2 = x2 * y2;
+		long t = x1 * y2 + (z2 >>> 32);
+		long z1 = (t & MASK_32) + x2 * y1;
+		return x1 * y1 + (t >> 32) + (z1 >> 32);
+	}
+
+	private static final int flog10pow2(int e) {
+		return (int)(e * 661971961083L >> 41);
+	}
+
+	private static final int flog10threeQuartersPow2(int e) {
+		return (int)(e * 661971961083L - 274743187321L >> 41);
+	}
+
+	private static final int flog2pow10(int e) {
+		return (int)(e * 913124641741L >> 38);
+	}
+
+	// Lays the value f 10^e out by the ECMAScript Number::toString rules.
+	private static final StringBuilder layout(StringBuilder sb, long f, int e) {
+		while (f % 10 == 0) {
+			f /= 10;
+			e++;
+		}
+		char[] d = new char[19];
+		int k = d.length;
+		for (; f != 0; f /= 10) {
+			d[--k] = (char)('0' + f % 10);
+		}
+		int first = k;
+		k = d.length - first;
+		int n = k + e;
+		if (k <= n && n <= 21) {
+			sb.append(d, first, k);
+			for (int i = k; i < n; i++) {
+				sb.append('0');
+			}
+		} else if (0 < n && n <= 21) {
+			sb.append(d, first, n).append('.').append(d, first + n, k - n);
+		} else if (-6 < n && n <= 0) {
+			sb.append("0.");
+			for (int i = n; i < 0; i++) {
+				sb.append('0');
+			}
+			sb.append(d, first, k);
+		} else {
+			sb.append(d[first]);
+			if (k > 1) {
+				sb.append('.').append(d, first + 1, k - 1);
+			}
+			sb.append(n > 0 ? "e+" : "e-").append(Math.abs(n - 1));
+		}
+		return sb;
+	}
+}
@@ -0,0 +1,224 @@
+
+/*
+ *  JScripter Simulation 1.0 - For Java To Script
+ *  Copyright (C) 2008-2011  J.J.Liu<jianjunliu@126.com> <http://www.jscripter.org>
+ *  
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Affero General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *  
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Affero General Public License for more details.
+ *  
+ *  You should have received a copy of the GNU Affero General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.jscripter.sim;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+
+import js.Context;
+
+final class SimHttp
+{
+	static final int MAX_IN_FLIGHT = 64;
+	static final int MAX_PER_HOST = 6;
+
+	private static final LinkedList<Job> queue = new LinkedList<Job>();
+	private static final Map<String, int[]> hosts = new HashMap<String, int[]>();
+	private static Executor executor;
+	private static int maxInFlight = MAX_IN_FLIGHT;
+	private static int maxPerHost = MAX_PER_HOST;
+	private static int inFlight;
+	private static int maxQueued;
+	private static long count;
+	private static long waited;
+	private static long maxWaited;
+
+	private SimHttp() {}
+
+	private static final class Job implements Runnable
+	{
+		private final String host;
+		private final Runnable task;
+		private final Context context = Context.current();
+		private final long queued = System.nanoTime();
+
+		private Job(String host, Runnable task) {
+			this.host = host;
+			this.task = task;
+		}
+
+		//@Override
+		public final void run() {
+			try {
+				Context.detach();
+				if (context == null) {
+					task.run();
+				} else if (!context.isDisposed()) {
+					context.enter();
+					try {
+						task.run();
+					} finally {
+						context.exit();
+					}
+				}
+			} finally {
+				done(this);
+			}
+		}
+	}
+
+	private static final class Holder
+	{
+		static final Executor executor = create();
+
+		private static final Executor create() {
+			try {
+				return (Executor)Executors.class.getMethod(
+						"newVirtualThreadPerTaskExecutor"
+				).invoke(null);
+			} catch (Exception e) {
+				return Executors.newCachedThreadPool(new ThreadFactory() {
+					//@Override
+					public Thread newThread(Runnable r) {
+						Thread t = new Thread(r, SimXMLHttpRequest.class.getName());
+						t.setDaemon(true);
+						return t;
+					}
+				});
+			}
+		}
+	}
+
+	static final void executor(Executor e) {
+		synchronized (queue) {
+			executor = e;
+		}
+	}
+
+	static final void limit(int inFlight, int perHost) {
+		List<Job> jobs;
+		synchronized (queue) {
+			maxInFlight = Math.max(1, inFlight);
+			maxPerHost = Math.max(1, perHost);
+			jobs = dispatch();
+		}
+		execute(jobs);
+	}
+
+	static final void submit(String host, Runnable task) {
+		List<Job> jobs;
+		synchronized (queue) {
+			queue.add(new Job(host, task));
+			maxQueued = Math.max(maxQueued, queue.size());
+			jobs = dispatch();
+		}
+		execute(jobs);
+	}
+
+	static final int inFlight() {
+		synchronized (queue) {
+			return inFlight;
+		}
+	}
+
+	static final int queued() {
+		synchronized (queue) {
+			return queue.size();
+		}
+	}
+
+	static final int maxQueued() {
+		synchronized (queue) {
+			return maxQueued;
+		}
+	}
+
+	static final double latency() {
+		synchronized (queue) {
+			return count == 0 ? 0 : waited / 1e6 / count;
+		}
+	}
+
+	static final double maxLatency() {
+		synchronized (queue) {
+			return maxWaited / 1e6;
+		}
+	}
+
+	private static final List<Job> dispatch() {
+		List<Job> jobs = null;
+		long now = System.nanoTime();
+		for (Iterator<Job> it = queue.iterator(); it.hasNext() && inFlight < maxInFlight;) {
+			Job j = it.next();
+			int[] n = hosts.get(j.host);
+			if (n == null) {
+				n = new int[1];
+				hosts.put(j.host, n);
+			} else if (n[0] >= maxPerHost) {
+				continue;
+			}
+			it.remove();
+			n[0]++;
+			inFlight++;
+			long w = now - j.queued;
+			count++;
+			waited += w;
+			maxWaited = Math.max(maxWaited, w);
+			if (jobs == null) {
+				jobs = new ArrayList<Job>();
+			}
+			jobs.add(j);
+		}
+		return jobs;
+	}
+
+	private static final void done(Job j) {
+		List<Job> jobs;
+		synchronized (queue) {
+			int[] n = hosts.get(j.host);
+			if (--n[0] == 0) {
+				hosts.remove(j.host);
+			}
+			inFlight--;
+			jobs = dispatch();
+		}
+		execute(jobs);
+	}
+
+	private static final void execute(List<Job> jobs) {
+		if (jobs == null) {
+			return;
+		}
+		Executor e;
+		synchronized (queue) {
+			e = executor;
+		}
+		if (e == null) {
+			e = Holder.executor;
+		}
+		for (Job j : jobs) {
+			try {
+				e.execute(j);
+			} catch (RejectedExecutionException x) {
+				Thread t = new Thread(j, SimXMLHttpRequest.class.getName());
+				t.setDaemon(true);
+				t.start();
+			}
+		}
+	}
+}
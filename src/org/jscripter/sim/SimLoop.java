@@ -0,0 +1,301 @@
+
+/*
+ *  JScripter Simulation 1.0 - For Java To Script
+ *  Copyright (C) 2008-2011  J.J.Liu<jianjunliu@126.com> <http://www.jscripter.org>
+ *  
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Affero General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *  
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Affero General Public License for more details.
+ *  
+ *  You should have received a copy of the GNU Affero General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.jscripter.sim;
+
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.PriorityQueue;
+
+import js.Context;
+import js.JsApplet;
+import js.Static;
+import js.Var;
+
+final class SimLoop implements Runnable
+{
+	private static final int LIMIT = 100000;
+
+	private static final Comparator<SimTimer> ORDER = new Comparator<SimTimer>() {
+		//@Override
+		public int compare(SimTimer a, SimTimer b) {
+			if (a.deadline != b.deadline) {
+				return a.deadline < b.deadline ? -1 : 1;
+			}
+			return a.seq < b.seq ? -1 : a.seq > b.seq ? 1 : 0;
+		}
+	};
+
+	private static final SimLoop GLOBAL = new SimLoop(null);
+
+	private static final Var<SimLoop> LOOP = new Static<SimLoop>(
+			new Var<SimLoop>() {
+				@Override
+				public SimLoop var() {
+					return new SimLoop(Context.current());
+				}
+			}
+	);
+
+	private final Context context;
+	private final LinkedList<Runnable> tasks = new LinkedList<Runnable>();
+	private final LinkedList<Runnable> microtasks = new LinkedList<Runnable>();
+	private final PriorityQueue<SimTimer> timers = new PriorityQueue<SimTimer>(16, ORDER);
+	private Thread thread;
+	private int holds;
+	private boolean busy;
+	private long clock = -1;
+	private long seq;
+	private volatile boolean plugin;
+
+	private SimLoop(Context context) {
+		this.context = context;
+		this.plugin = context != null && context.sim() instanceof Simul &&
+				!((Simul)context.sim()).isCore();
+	}
+
+	final void plugin() {
+		plugin = true;
+	}
+
+	static final SimLoop current() {
+		return Context.current() == null ? GLOBAL : LOOP.var();
+	}
+
+	final boolean disposed() {
+		return context != null && context.isDisposed();
+	}
+
+	final void post(Runnable r) {
+		enqueue(tasks, r);
+	}
+
+	final void defer(Runnable r) {
+		enqueue(microtasks, r);
+	}
+
+	final synchronized long now() {
+		return clock < 0 ? System.currentTimeMillis() : clock;
+	}
+
+	final void virtualize(long time) {
+		synchronized (this) {
+			clock = time;
+		}
+		long now = SimWheel.now();
+		for (SimTimer t : SimWheel.migrate(this)) {
+			synchronized (this) {
+				t.deadline = clock + Math.max(0, t.deadline - now);
+				t.seq = seq++;
+				timers.add(t);
+			}
+			release();
+		}
+	}
+
+	final synchronized boolean schedule(SimTimer t) {
+		if (clock < 0) {
+			return false;
+		}
+		t.deadline = clock + t.delay;
+		t.seq = seq++;
+		timers.add(t);
+		return true;
+	}
+
+	final synchronized boolean cancel(SimTimer t) {
+		return timers.remove(t);
+	}
+
+	final void advance(long ms) {
+		long target;
+		synchronized (this) {
+			check();
+			target = clock + Math.max(0, ms);
+		}
+		while (fire(target)) {
+		}
+	}
+
+	final void runUntilIdle() {
+		synchronized (this) {
+			check();
+		}
+		for (int n = 0; fire(Long.MAX_VALUE); n++) {
+			if (n >= LIMIT) {
+				throw new IllegalStateException("Aborted after running " + LIMIT + " timers!");
+			}
+		}
+	}
+
+	private final void check() {
+		if (clock < 0) {
+			throw new IllegalStateException("Virtual time not in use!");
+		}
+		if (thread == Thread.currentThread()) {
+			throw new IllegalStateException("Event loop blocked!");
+		}
+	}
+
+	private final void drain() {
+		synchronized (this) {
+			if (thread != null) {
+				return;
+			}
+			thread = Thread.currentThread();
+		}
+		for (Runnable r = take(); r != null; r = take()) {
+			execute(r);
+		}
+	}
+
+	private final boolean fire(long target) {
+		drain();
+		return next(target);
+	}
+
+	private final synchronized boolean next(long target) {
+		while (!disposed() && (busy || !tasks.isEmpty() || !microtasks.isEmpty())) {
+			try {
+				wait();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+		}
+		SimTimer t = timers.peek();
+		if (disposed() || t == null || t.deadline > target) {
+			if (target != Long.MAX_VALUE && target > clock) {
+				clock = target;
+			}
+			return false;
+		}
+		timers.poll();
+		clock = Math.max(clock, t.deadline);
+		if (t.period > 0) {
+			t.deadline += t.period;
+			t.seq = seq++;
+			timers.add(t);
+		}
+		if (!t.running) {
+			t.running = true;
+			tasks.add(t);
+			notifyAll();
+		}
+		return true;
+	}
+
+	final synchronized void hold() {
+		holds++;
+		start();
+	}
+
+	final synchronized void release() {
+		if (--holds == 0) {
+			notifyAll();
+		}
+	}
+
+	private final synchronized void enqueue(LinkedList<Runnable> queue, Runnable r) {
+		if (disposed()) {
+			return;
+		}
+		queue.add(r);
+		start();
+		notifyAll();
+	}
+
+	private final void start() {
+		if (thread == null) {
+			thread = new Thread(this, SimLoop.class.getName());
+			thread.setDaemon(false);
+			if (context != null) {
+				context.bind(thread);
+			}
+			thread.start();
+		}
+	}
+
+	private final synchronized Runnable take() {
+		busy = false;
+		while (!disposed()) {
+			if (!microtasks.isEmpty()) {
+				busy = true;
+				return microtasks.removeFirst();
+			}
+			if (!tasks.isEmpty()) {
+				busy = true;
+				return tasks.removeFirst();
+			}
+			notifyAll();
+			if (holds == 0) {
+				break;
+			}
+			try {
+				wait();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+		}
+		if (disposed()) {
+			tasks.clear();
+			microtasks.clear();
+			timers.clear();
+		}
+		thread = null;
+		notifyAll();
+		return null;
+	}
+
+	//@Override
+	public final void run() {
+		Context.detach();
+		if (context != null) {
+			try {
+				context.enter();
+			} catch (IllegalStateException e) {
+				take();
+				return;
+			}
+		}
+		try {
+			for (Runnable r = take(); r != null; r = take()) {
+				execute(r);
+			}
+		} finally {
+			Context.detach();
+		}
+	}
+
+	private final void execute(Runnable r) {
+		try {
+			if (plugin) {
+				synchronized (JsApplet.class) {
+					r.run();
+				}
+			} else {
+				r.run();
+			}
+		} catch (Throwable e) {
+			Thread t = Thread.currentThread();
+			t.getUncaughtExceptionHandler().uncaughtException(t, e);
+		}
+	}
+}
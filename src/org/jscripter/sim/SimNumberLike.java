@@ -99,7 +99,7 @@ final class SimNumberLike<T extends Number> implements NumberLike<T>
 
 	//@Override
 	public final String toString() {
-		return n.toString();
+		return SimFormat.toString(n);
 	}
 
 	//@Override
@@ -19,8 +19,9 @@
 
 package org.jscripter.sim;
 
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.jscripter.sim.core.Core;
@@ -35,10 +36,61 @@ import js.core.JsObject;
 
 final class SimObjectLike extends Var<Object> implements ObjectLike
 {
-	private final Map<Mid, Object> map = new HashMap<Mid, Object>();
+	private static final int DICTIONARY_DELETES = 8;
+	private static final Object[] EMPTY = new Object[0];
 
-	final boolean has(Mid mid) {
-		return map.containsKey(mid);
+	private SimShape shape = SimShape.ROOT;
+	private Object[] slots = EMPTY;
+	private Map<Mid, Object> map;
+	private int deletes;
+
+	final synchronized boolean has(Mid mid) {
+		return map == null ? shape.indexOf(mid) >= 0 : map.containsKey(mid);
+	}
+
+	final synchronized SimShape shape() {
+		return map == null ? shape : null;
+	}
+
+	final synchronized Object[] values() {
+		if (map != null) {
+			return map.values().toArray();
+		}
+		Object[] ret = new Object[shape.size()];
+		System.arraycopy(slots, 0, ret, 0, ret.length);
+		return ret;
+	}
+
+	final synchronized SimObjectLike copy(Map<Object, Object> copies) {
+		SimObjectLike ret = new SimObjectLike();
+		if (map != null) {
+			ret.map = new LinkedHashMap<Mid, Object>();
+			for (Map.Entry<Mid, Object> e : map.entrySet()) {
+				Object v = e.getValue();
+				Object c = copies.get(v);
+				ret.map.put(e.getKey(), c != null ? c : v);
+			}
+		} else if (slots.length > 0) {
+			int n = shape.size();
+			ret.shape = shape;
+			ret.slots = new Object[slots.length];
+			for (int i = 0; i < n; i++) {
+				Object v = slots[i];
+				Object c = copies.get(v);
+				ret.slots[i] = c != null ? c : v;
+			}
+		}
+		ret.deletes = deletes;
+		return ret;
+	}
+
+	private final void toDictionary() {
+		map = new LinkedHashMap<Mid, Object>();
+		for (int i = 0, n = shape.size(); i < n; i++) {
+			map.put(shape.mid(i), slots[i]);
+		}
+		shape = null;
+		slots = null;
 	}
 
 	//@Override
@@ -52,8 +104,15 @@ final class SimObjectLike extends Var<Object> implements ObjectLike
 	}
 
 	//@Override
-	public final Object valueOf() {
-		return map;
+	public final synchronized Object valueOf() {
+		if (map != null) {
+			return map;
+		}
+		Map<Mid, Object> ret = new LinkedHashMap<Mid, Object>();
+		for (int i = 0, n = shape.size(); i < n; i++) {
+			ret.put(shape.mid(i), slots[i]);
+		}
+		return ret;
 	}
 
 	//@Override
@@ -73,10 +132,26 @@ final class SimObjectLike extends Var<Object> implements ObjectLike
 
 	//@Override
 	public final synchronized boolean delete(Mid mid) {
-		if (!map.containsKey(mid)) {
+		if (map != null) {
+			if (!map.containsKey(mid)) {
+				return false;
+			}
+			map.remove(mid);
+			return true;
+		}
+		int i = shape.indexOf(mid);
+		if (i < 0) {
 			return false;
 		}
-		map.remove(mid);
+		if (++deletes > DICTIONARY_DELETES) {
+			toDictionary();
+			map.remove(mid);
+			return true;
+		}
+		int n = shape.size();
+		System.arraycopy(slots, i + 1, slots, i, n - i - 1);
+		slots[n - 1] = null;
+		shape = shape.remove(i);
 		return true;
 	}
 
@@ -99,7 +174,11 @@ final class SimObjectLike extends Var<Object> implements ObjectLike
 
 	//@Override
 	public final synchronized Object var(Mid mid) {
-		return map.get(mid);
+		if (map != null) {
+			return map.get(mid);
+		}
+		int i = shape.indexOf(mid);
+		return i < 0 ? null : slots[i];
 	}
 
 	//@Override
@@ -119,7 +198,28 @@ final class SimObjectLike extends Var<Object> implements ObjectLike
 
 	//@Override
 	public final synchronized <T> T var(Mid mid, T value) {
-		map.put(mid, value);
+		if (map != null) {
+			map.put(mid, value);
+			return value;
+		}
+		int i = shape.indexOf(mid);
+		if (i >= 0) {
+			slots[i] = value;
+			return value;
+		}
+		i = shape.size();
+		if (i >= SimShape.MAX_SIZE) {
+			toDictionary();
+			map.put(mid, value);
+			return value;
+		}
+		if (i == slots.length) {
+			Object[] a = new Object[i < 4 ? 4 : i * 2];
+			System.arraycopy(slots, 0, a, 0, i);
+			slots = a;
+		}
+		slots[i] = value;
+		shape = shape.add(mid);
 		return value;
 	}
 
@@ -154,15 +254,19 @@ final class SimObjectLike extends Var<Object> implements ObjectLike
 			return JsGlobal.Object.with().create(this);
 		} else {
 			JsObject o = JsGlobal.Object.with().create();
-			for (Mid mid : map.keySet()) {
+			Iterator<Mid> it = iterator();
+			while (it.hasNext()) {
+				Mid mid = it.next();
 				o.var(mid, var(mid));
 			}
 			return o;
 		}
 	}
 
-	final Iterator<Mid> iterator() {
-		return map.keySet().iterator();
-		
+	final synchronized Iterator<Mid> iterator() {
+		if (map != null) {
+			return Arrays.asList(map.keySet().toArray(new Mid[map.size()])).iterator();
+		}
+		return Arrays.asList(shape.mids()).iterator();
 	}
 }
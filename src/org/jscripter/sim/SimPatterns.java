@@ -0,0 +1,152 @@
+
+/*
+ *  JScripter Simulation 1.0 - For Java To Script
+ *  Copyright (C) 2008-2011  J.J.Liu<jianjunliu@126.com> <http://www.jscripter.org>
+ *  
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Affero General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *  
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Affero General Public License for more details.
+ *  
+ *  You should have received a copy of the GNU Affero General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.jscripter.sim;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import js.RegExpLike;
+
+final class SimPatterns
+{
+	static final int MAX_SIZE = 256;
+
+	private static final class Key
+	{
+		private String source;
+		private int flags;
+
+		Key(String source, int flags) {
+			this.source = source;
+			this.flags = flags;
+		}
+
+		@Override
+		public final int hashCode() {
+			return source.hashCode() * 31 + flags;
+		}
+
+		@Override
+		public final boolean equals(Object o) {
+			if (!(o instanceof Key)) {
+				return false;
+			}
+			Key k = (Key)o;
+			return flags == k.flags && source.equals(k.source);
+		}
+	}
+
+	private static final Map<Key, Pattern> cache = new LinkedHashMap<Key, Pattern>(MAX_SIZE, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected final boolean removeEldestEntry(Map.Entry<Key, Pattern> eldest) {
+			return size() > MAX_SIZE;
+		}
+	};
+	private static final Key probe = new Key(null, 0);
+	private static long hits, misses;
+
+	private SimPatterns() {}
+
+	static final int flags(boolean ignoreCase, boolean multiline) {
+		int flags = 0;
+		if (ignoreCase) {
+			flags = Pattern.CASE_INSENSITIVE;
+		}
+		if (multiline) {
+			flags |= Pattern.MULTILINE;
+		}
+		return flags;
+	}
+
+	static final Pattern compile(RegExpLike re) {
+		return re instanceof SimRegExpLike ? ((SimRegExpLike)re).pattern() :
+			compile(re.source(), flags(re.ignoreCase(), re.multiline()));
+	}
+
+	static final Pattern compile(String source, int flags) {
+		synchronized (cache) {
+			probe.source = source;
+			probe.flags = flags;
+			Pattern p = cache.get(probe);
+			probe.source = null;
+			if (p != null) {
+				hits++;
+				return p;
+			}
+			misses++;
+		}
+		Pattern p = Pattern.compile(translate(source), flags);
+		synchronized (cache) {
+			cache.put(new Key(source, flags), p);
+		}
+		return p;
+	}
+
+	static final long hits() {
+		synchronized (cache) {
+			return hits;
+		}
+	}
+
+	static final long misses() {
+		synchronized (cache) {
+			return misses;
+		}
+	}
+
+	static final String translate(String source) {
+		int i = source.indexOf('[');
+		if (i < 0) {
+			return source;
+		}
+		StringBuilder sb = new StringBuilder(source.length() + 8);
+		boolean inClass = false;
+		for (i = 0; i < source.length(); i++) {
+			char c = source.charAt(i);
+			if (c == '\\' && i + 1 < source.length()) {
+				sb.append(c).append(source.charAt(++i));
+			} else if (inClass) {
+				inClass = c != ']';
+				if (c == '[' || c == '&') {
+					sb.append('\\');
+				}
+				sb.append(c);
+			} else if (c != '[') {
+				sb.append(c);
+			} else if (source.startsWith("[]", i)) {
+				sb.append("(?!)");
+				i++;
+			} else if (source.startsWith("[^]", i)) {
+				sb.append("[\\s\\S]");
+				i += 2;
+			} else {
+				inClass = true;
+				sb.append(c);
+				if (i + 1 < source.length() && source.charAt(i + 1) == '^') {
+					sb.append(source.charAt(++i));
+				}
+			}
+		}
+		return sb.toString();
+	}
+}
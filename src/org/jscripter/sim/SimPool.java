@@ -0,0 +1,75 @@
+
+/*
+ *  JScripter Simulation 1.0 - For Java To Script
+ *  Copyright (C) 2008-2011  J.J.Liu<jianjunliu@126.com> <http://www.jscripter.org>
+ *  
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Affero General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *  
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Affero General Public License for more details.
+ *  
+ *  You should have received a copy of the GNU Affero General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.jscripter.sim;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import js.Context;
+
+final class SimPool
+{
+	static final int CPUS = Runtime.getRuntime().availableProcessors();
+
+	private SimPool() {}
+
+	private static final class Holder
+	{
+		static final ExecutorService executor = Executors.newFixedThreadPool(CPUS, new ThreadFactory() {
+			//@Override
+			public Thread newThread(final Runnable r) {
+				Thread t = new Thread(new Runnable() {
+					//@Override
+					public void run() {
+						Context.detach();
+						r.run();
+					}
+				}, SimPool.class.getName());
+				t.setDaemon(true);
+				return t;
+			}
+		});
+	}
+
+	static final void invoke(List<Callable<Object>> tasks) {
+		try {
+			for (Future<Object> f : Holder.executor.invokeAll(tasks)) {
+				f.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		} catch (ExecutionException e) {
+			Throwable t = e.getCause();
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException)t;
+			}
+			if (t instanceof Error) {
+				throw (Error)t;
+			}
+			throw new RuntimeException(t);
+		}
+	}
+}
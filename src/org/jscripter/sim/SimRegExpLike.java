@@ -77,14 +77,7 @@ class SimRegExpLike implements RegExpLike
 
 	public final Pattern pattern() {
 		if (pattern == null) {
-			int flags = 0;
-			if (ignoreCase) {
-				flags = Pattern.CASE_INSENSITIVE;
-			}
-			if (multiline) {
-				flags |= Pattern.MULTILINE;
-			}
-			pattern = Pattern.compile(regex, flags);
+			pattern = SimPatterns.compile(regex, SimPatterns.flags(ignoreCase, multiline));
 		}
 		return pattern;
 	}
@@ -118,6 +111,13 @@ class SimRegExpLike implements RegExpLike
 	public final boolean ignoreCase() {
 		return ignoreCase;
 	}
+	final synchronized SimRegExpLike copy() {
+		SimRegExpLike ret = flags == null ?
+				new SimRegExpLike(regex) : new SimRegExpLike(regex, flags);
+		ret.lastIndex = lastIndex;
+		ret.pattern = pattern;
+		return ret;
+	}
 	//@Override
 	public final Integer lastIndex() {
 		return lastIndex;
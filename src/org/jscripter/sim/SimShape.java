@@ -0,0 +1,215 @@
+
+/*
+ *  JScripter Simulation 1.0 - For Java To Script
+ *  Copyright (C) 2008-2011  J.J.Liu<jianjunliu@126.com> <http://www.jscripter.org>
+ *  
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Affero General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *  
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Affero General Public License for more details.
+ *  
+ *  You should have received a copy of the GNU Affero General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.jscripter.sim;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+
+import js.Var.Mid;
+
+final class SimShape
+{
+	static final int MAX_SIZE = 64;
+	private static final int INDEXED = 8;
+	private static final int LINEAR = 8;
+	private static final Transition[] NONE = new Transition[0];
+	private static final ReferenceQueue<SimShape> cleared = new ReferenceQueue<SimShape>();
+
+	static final SimShape ROOT = new SimShape(null, null);
+
+	private final SimShape parent;
+	private final Mid[] mids;
+	private final int[] index;
+	private volatile Transition last;
+	private volatile Transition[] transitions = NONE;
+	private volatile ConcurrentHashMap<Mid, Transition> map;
+
+	private static final class Transition extends WeakReference<SimShape>
+	{
+		final SimShape parent;
+		final Mid mid;
+
+		Transition(SimShape parent, Mid mid, SimShape shape) {
+			super(shape, cleared);
+			this.parent = parent;
+			this.mid = mid;
+		}
+	}
+
+	private static final void purge() {
+		Transition t;
+		while ((t = (Transition)cleared.poll()) != null) {
+			ConcurrentHashMap<Mid, Transition> m = t.parent.map;
+			if (m != null) {
+				m.remove(t.mid, t);
+			}
+		}
+	}
+
+	private SimShape(SimShape parent, Mid mid) {
+		this.parent = parent;
+		if (parent == null) {
+			mids = new Mid[0];
+		} else {
+			int n = parent.mids.length;
+			mids = new Mid[n + 1];
+			System.arraycopy(parent.mids, 0, mids, 0, n);
+			mids[n] = mid;
+		}
+		if (mids.length > INDEXED) {
+			int n = Integer.highestOneBit(mids.length * 2) * 2;
+			index = new int[n];
+			for (int i = 0; i < mids.length; i++) {
+				int h = mids[i].ordinal() & (n - 1);
+				while (index[h] != 0) {
+					h = (h + 1) & (n - 1);
+				}
+				index[h] = i + 1;
+			}
+		} else {
+			index = null;
+		}
+	}
+
+	final int size() {
+		return mids.length;
+	}
+
+	final Mid mid(int i) {
+		return mids[i];
+	}
+
+	final Mid[] mids() {
+		Mid[] ret = new Mid[mids.length];
+		System.arraycopy(mids, 0, ret, 0, mids.length);
+		return ret;
+	}
+
+	final SimShape parent() {
+		return parent;
+	}
+
+	final int indexOf(Mid mid) {
+		if (index != null) {
+			int n = index.length - 1;
+			for (int h = mid.ordinal() & n; index[h] != 0; h = (h + 1) & n) {
+				if (mids[index[h] - 1] == mid) {
+					return index[h] - 1;
+				}
+			}
+			return -1;
+		}
+		for (int i = mids.length - 1; i >= 0; i--) {
+			if (mids[i] == mid) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private final SimShape find(Mid mid) {
+		Transition t = last;
+		if (t != null && t.mid == mid) {
+			SimShape s = t.get();
+			if (s != null) {
+				return s;
+			}
+		}
+		ConcurrentHashMap<Mid, Transition> m = map;
+		if (m != null) {
+			t = m.get(mid);
+			SimShape s = t == null ? null : t.get();
+			if (s != null) {
+				last = t;
+			}
+			return s;
+		}
+		Transition[] ts = transitions;
+		for (int i = 0; i < ts.length; i++) {
+			t = ts[i];
+			if (t.mid == mid) {
+				SimShape s = t.get();
+				if (s != null) {
+					last = t;
+					return s;
+				}
+			}
+		}
+		return null;
+	}
+
+	final SimShape add(Mid mid) {
+		SimShape s = find(mid);
+		if (s != null) {
+			return s;
+		}
+		purge();
+		synchronized(this) {
+			s = find(mid);
+			if (s != null) {
+				return s;
+			}
+			s = new SimShape(this, mid);
+			Transition t = new Transition(this, mid, s);
+			if (map != null) {
+				map.put(mid, t);
+			} else {
+				Transition[] ts = transitions;
+				Transition[] a = new Transition[ts.length + 1];
+				int n = 0;
+				for (int i = 0; i < ts.length; i++) {
+					if (ts[i].get() != null) {
+						a[n++] = ts[i];
+					}
+				}
+				a[n++] = t;
+				if (n > LINEAR) {
+					ConcurrentHashMap<Mid, Transition> m = new ConcurrentHashMap<Mid, Transition>();
+					for (int i = 0; i < n; i++) {
+						m.put(a[i].mid, a[i]);
+					}
+					map = m;
+					transitions = NONE;
+				} else {
+					if (n < a.length) {
+						Transition[] b = new Transition[n];
+						System.arraycopy(a, 0, b, 0, n);
+						a = b;
+					}
+					transitions = a;
+				}
+			}
+			last = t;
+			return s;
+		}
+	}
+
+	final SimShape remove(int i) {
+		SimShape s = this;
+		while (s.mids.length > i) {
+			s = s.parent;
+		}
+		for (int j = i + 1; j < mids.length; j++) {
+			s = s.add(mids[j]);
+		}
+		return s;
+	}
+}
@@ -0,0 +1,271 @@
+
+/*
+ *  JScripter Simulation 1.0 - For Java To Script
+ *  Copyright (C) 2008-2011  J.J.Liu<jianjunliu@126.com> <http://www.jscripter.org>
+ *  
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Affero General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *  
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Affero General Public License for more details.
+ *  
+ *  You should have received a copy of the GNU Affero General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.jscripter.sim;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import js.Js;
+import js.core.JsFunction;
+
+final class SimSort
+{
+	private static final int PARALLEL = 1 << 14;
+	private static final int SMALL = 16;
+
+	private SimSort() {}
+
+	private static abstract class Keys
+	{
+		abstract int compare(int i, int j);
+	}
+
+	private static final class NumberKeys extends Keys
+	{
+		private final double[] keys;
+
+		NumberKeys(double[] keys) {
+			this.keys = keys;
+		}
+
+		@Override
+		final int compare(int i, int j) {
+			double a = keys[i], b = keys[j];
+			return a > b ? 1 : a < b ? -1 : 0;
+		}
+	}
+
+	private static final class StringKeys extends Keys
+	{
+		private final String[] keys;
+
+		StringKeys(String[] keys) {
+			this.keys = keys;
+		}
+
+		@Override
+		final int compare(int i, int j) {
+			return keys[i].compareTo(keys[j]);
+		}
+	}
+
+	private static final class FunctionKeys extends Keys
+	{
+		private final Object[] a;
+		private final JsFunction<? extends Number> f;
+
+		FunctionKeys(Object[] a, JsFunction<? extends Number> f) {
+			this.a = a;
+			this.f = f;
+		}
+
+		@Override
+		final int compare(int i, int j) {
+			Number n = f.invoke(a[i], a[j]);
+			double d = n == null ? 0 : n.doubleValue();
+			return d > 0 ? 1 : d < 0 ? -1 : 0;
+		}
+	}
+
+	private static abstract class Job
+	{
+		abstract void sort(int from, int to);
+		abstract void merge(int from, int mid, int to);
+	}
+
+	private static final void run(final Job job, int n) {
+		if (n < PARALLEL || SimPool.CPUS < 2) {
+			job.sort(0, n);
+			return;
+		}
+		int parts = Integer.highestOneBit(Math.min(SimPool.CPUS, n / (PARALLEL >> 1)));
+		final int[] bounds = new int[parts + 1];
+		for (int i = 0; i <= parts; i++) {
+			bounds[i] = (int)((long)n * i / parts);
+		}
+		List<Callable<Object>> tasks = new ArrayList<Callable<Object>>(parts);
+		for (int i = 0; i < parts; i++) {
+			final int from = bounds[i], to = bounds[i + 1];
+			tasks.add(new Callable<Object>() {
+				//@Override
+				public Object call() {
+					job.sort(from, to);
+					return null;
+				}
+			});
+		}
+		SimPool.invoke(tasks);
+		for (int w = 1; w < parts; w <<= 1) {
+			tasks.clear();
+			for (int i = 0; i + w < parts; i += w << 1) {
+				final int from = bounds[i], mid = bounds[i + w], to = bounds[Math.min(i + (w << 1), parts)];
+				tasks.add(new Callable<Object>() {
+					//@Override
+					public Object call() {
+						job.merge(from, mid, to);
+						return null;
+					}
+				});
+			}
+			SimPool.invoke(tasks);
+		}
+	}
+
+	private static final void sort(int[] idx, int[] tmp, int from, int to, Keys keys) {
+		if (to - from <= SMALL) {
+			for (int i = from + 1; i < to; i++) {
+				int v = idx[i], j = i - 1;
+				while (j >= from && keys.compare(idx[j], v) > 0) {
+					idx[j + 1] = idx[j];
+					j--;
+				}
+				idx[j + 1] = v;
+			}
+			return;
+		}
+		int mid = (from + to) >>> 1;
+		sort(idx, tmp, from, mid, keys);
+		sort(idx, tmp, mid, to, keys);
+		merge(idx, tmp, from, mid, to, keys);
+	}
+
+	private static final void merge(int[] idx, int[] tmp, int from, int mid, int to, Keys keys) {
+		if (keys.compare(idx[mid - 1], idx[mid]) <= 0) {
+			return;
+		}
+		System.arraycopy(idx, from, tmp, from, mid - from);
+		int i = from, j = mid, k = from;
+		while (i < mid && j < to) {
+			idx[k++] = keys.compare(idx[j], tmp[i]) < 0 ? idx[j++] : tmp[i++];
+		}
+		while (i < mid) {
+			idx[k++] = tmp[i++];
+		}
+	}
+
+	private static final void sort(Object[] a, int n, final Keys keys, boolean parallel) {
+		final int[] idx = new int[n];
+		final int[] tmp = new int[n];
+		for (int i = 0; i < n; i++) {
+			idx[i] = i;
+		}
+		Job job = new Job() {
+			@Override
+			final void sort(int from, int to) {
+				SimSort.sort(idx, tmp, from, to, keys);
+			}
+			@Override
+			final void merge(int from, int mid, int to) {
+				SimSort.merge(idx, tmp, from, mid, to, keys);
+			}
+		};
+		if (parallel) {
+			run(job, n);
+		} else {
+			job.sort(0, n);
+		}
+		Object[] b = new Object[n];
+		for (int i = 0; i < n; i++) {
+			b[i] = a[idx[i]];
+		}
+		System.arraycopy(b, 0, a, 0, n);
+	}
+
+	private static final int defined(Object[] a, int n) {
+		int k = 0;
+		for (int i = 0; i < n; i++) {
+			if (a[i] != null) {
+				a[k++] = a[i];
+			}
+		}
+		Arrays.fill(a, k, n, null);
+		return k;
+	}
+
+	static final void sort(Object[] a, int n) {
+		n = defined(a, n);
+		double[] nums = new double[n];
+		for (int i = 0; i < n; i++) {
+			Object v = a[i];
+			if (v instanceof Number) {
+				nums[i] = ((Number)v).doubleValue();
+			} else if (v instanceof Character) {
+				nums[i] = ((Character)v).charValue();
+			} else {
+				String[] strs = new String[n];
+				for (int j = 0; j < n; j++) {
+					strs[j] = Js.toString(a[j]);
+				}
+				sort(a, n, new StringKeys(strs), true);
+				return;
+			}
+		}
+		sort(a, n, new NumberKeys(nums), true);
+	}
+
+	static final void sort(Object[] a, int n, JsFunction<? extends Number> f) {
+		n = defined(a, n);
+		sort(a, n, new FunctionKeys(a, f), false);
+	}
+
+	static final void sort(final int[] a, int n) {
+		final int[] tmp = new int[n < PARALLEL ? 0 : n];
+		run(new Job() {
+			@Override
+			final void sort(int from, int to) {
+				Arrays.sort(a, from, to);
+			}
+			@Override
+			final void merge(int from, int mid, int to) {
+				System.arraycopy(a, from, tmp, from, mid - from);
+				int i = from, j = mid, k = from;
+				while (i < mid && j < to) {
+					a[k++] = a[j] < tmp[i] ? a[j++] : tmp[i++];
+				}
+				while (i < mid) {
+					a[k++] = tmp[i++];
+				}
+			}
+		}, n);
+	}
+
+	static final void sort(final double[] a, int n) {
+		final double[] tmp = new double[n < PARALLEL ? 0 : n];
+		run(new Job() {
+			@Override
+			final void sort(int from, int to) {
+				Arrays.sort(a, from, to);
+			}
+			@Override
+			final void merge(int from, int mid, int to) {
+				System.arraycopy(a, from, tmp, from, mid - from);
+				int i = from, j = mid, k = from;
+				while (i < mid && j < to) {
+					a[k++] = Double.compare(a[j], tmp[i]) < 0 ? a[j++] : tmp[i++];
+				}
+				while (i < mid) {
+					a[k++] = tmp[i++];
+				}
+			}
+		}, n);
+	}
+}
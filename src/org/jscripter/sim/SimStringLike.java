@@ -21,6 +21,7 @@ package org.jscripter.sim;
 
 import java.util.Locale;
 import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import js.ArrayLike;
 import js.Js;
@@ -87,15 +88,9 @@ final class SimStringLike implements StringLike
 	}
 	//@Override
 	public final String replace(RegExpLike regexp, String newSubStr) {
-		if (regexp instanceof SimRegExpLike) {
-			Matcher m = ((SimRegExpLike)regexp).pattern().matcher(s);
-			return regexp.global() ?
-					m.replaceAll(newSubStr) : m.replaceFirst(newSubStr);
-		} else {
-			return regexp.global() ?
-					s.replaceAll(regexp.source(), newSubStr) :
-						s.replaceFirst(regexp.source(), newSubStr);
-		}
+		Matcher m = SimPatterns.compile(regexp).matcher(s);
+		return regexp.global() ?
+				m.replaceAll(newSubStr) : m.replaceFirst(newSubStr);
 	}
 	//@Override
 	public final String replace(RegExpLike regexp, StringLike newSubStr) {
@@ -107,13 +102,9 @@ final class SimStringLike implements StringLike
 	}
 	//@Override
 	public final Integer search(RegExpLike regexp) {
-		if (regexp instanceof SimRegExpLike) {
-			Matcher m = ((SimRegExpLike)regexp).pattern().matcher(s);
-			boolean res = m.find();
-			return res ? m.start() : -1;
-		} else {
-			return search(new SimRegExpLike(regexp.source()));
-		}
+		Matcher m = SimPatterns.compile(regexp).matcher(s);
+		boolean res = m.find();
+		return res ? m.start() : -1;
 	}
 	//@Override
 	public final String slice(Object begin) {
@@ -131,21 +122,18 @@ final class SimStringLike implements StringLike
 	//@Override
 	public final ArrayLike<?> split(Object separator) {
 		separator = Js.valueOf(separator);
-		return separator instanceof SimRegExpLike ?
-				new SimArrayLike<String>(new SimArrayObject<String>(((SimRegExpLike)separator).pattern().split(s))) :
-				separator instanceof RegExpLike ?
-				new SimArrayLike<String>(new SimArrayObject<String>(s.split(((RegExpLike)separator).source()))) :							
-				new SimArrayLike<String>(new SimArrayObject<String>(s.split(Js.toString(separator))));
+		return new SimArrayLike<String>(new SimArrayObject<String>(pattern(separator).split(s)));
 	}
 	//@Override
 	public final ArrayLike<?> split(Object separator, Object limit) {
 		int lim = SimUtil.getNumber(limit).intValue();
 		separator = Js.valueOf(separator);
-		return separator instanceof SimRegExpLike ?
-				new SimArrayLike<String>(new SimArrayObject<String>(((SimRegExpLike)separator).pattern().split(s, lim))) :
-				separator instanceof RegExpLike ?
-				new SimArrayLike<String>(new SimArrayObject<String>(s.split(((RegExpLike)separator).source(), lim))) :							
-				new SimArrayLike<String>(new SimArrayObject<String>(s.split(Js.toString(separator), lim)));
+		return new SimArrayLike<String>(new SimArrayObject<String>(pattern(separator).split(s, lim)));
+	}
+
+	private static final Pattern pattern(Object separator) {
+		return separator instanceof RegExpLike ? SimPatterns.compile((RegExpLike)separator) :
+			SimPatterns.compile(Js.toString(separator), 0);
 	}
 	//@Override
 	public final String substr(Object start) {
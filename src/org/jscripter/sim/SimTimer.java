@@ -21,26 +21,43 @@ package org.jscripter.sim;
 
 import js.core.JsFunction;
 
-final class SimInterval extends SimThread
+final class SimTimer implements Runnable
 {
-	SimInterval(final JsFunction<?> f, final Number delay) {
-		super(f, delay);
-		start();
+	final JsFunction<?> f;
+	final long delay;
+	final long period;
+	final SimLoop loop;
+	long deadline;
+	long seq;
+	long rounds;
+	int bucket = -1;
+	SimTimer prev, next;
+	volatile boolean cleared, running;
+
+	SimTimer(SimLoop loop, final JsFunction<?> f, final Number delay, boolean repeat) {
+		this.f = f;
+		this.delay = delay == null ? 0 : Math.max(0, delay.longValue());
+		this.period = repeat ? Math.max(1, this.delay) : 0;
+		this.loop = loop;
+	}
+
+	public final void clear() {
+		cleared = true;
+		SimWheel.cancel(this);
 	}
 
-	@Override
+	final boolean disposed() {
+		return cleared || loop.disposed();
+	}
+
+	//@Override
 	public final void run() {
-		while (!clear) {
-			if (delay != null) {
-				try {
-					Thread.sleep(delay.longValue());
-				} catch (InterruptedException ie) {
-					return;
-				}
-			}
-			if (!clear) {
+		try {
+			if (!disposed()) {
 				f.invoke();
 			}
+		} finally {
+			running = false;
 		}
 	}
 }
@@ -22,8 +22,6 @@ package org.jscripter.sim;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URLConnection;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.StringTokenizer;
 
 import js.Js;
@@ -48,7 +46,6 @@ public final class SimUtil
 		return v > LMAX ? LMAX : v < LMIN ? LMIN : v;
 	}
 
-	private final static Map<Class<?>, Byte> tmap = new HashMap<Class<?>, Byte>();
 	private final static byte OTHER        = 0x00;
 	private final static byte CHARACTER    = 0x01;
 	private final static byte BYTE         = 0x03;
@@ -58,20 +55,50 @@ public final class SimUtil
 	private final static byte FLOAT        = 0x07;
 	private final static byte DOUBLE       = 0x08;
 
+	private final static byte tid(Object o) {
+		if (o instanceof Integer  ) return INTEGER  ;
+		if (o instanceof Double   ) return DOUBLE   ;
+		if (o instanceof Long     ) return LONG     ;
+		if (o instanceof Float    ) return FLOAT    ;
+		if (o instanceof Short    ) return SHORT    ;
+		if (o instanceof Byte     ) return BYTE     ;
+		if (o instanceof Character) return CHARACTER;
+		return OTHER;
+	}
+
+	private final static int LOW = -1024;
+	private final static Integer[] INTS = new Integer[2048];
+
 	static {
-		tmap.put(Character.class, CHARACTER);
-		tmap.put(Byte     .class, BYTE     );
-		tmap.put(Short    .class, SHORT    );
-		tmap.put(Integer  .class, INTEGER  );
-		tmap.put(Long     .class, LONG     );
-		tmap.put(Float    .class, FLOAT    );
-		tmap.put(Double   .class, DOUBLE   );
+		for (int i = 0; i < INTS.length; i++) {
+			INTS[i] = Integer.valueOf(LOW + i);
+		}
 	}
 
-	private final static byte tid(Object o) {
-		if (o == null) return OTHER;
-		Byte tid = tmap.get(o.getClass());
-		return tid == null ? OTHER : tid;
+	/**
+	 * <p>Gets the boxed representation of an integer, sharing the instances for small 
+	 * integers.</p>
+	 * @param v An integer.
+	 * @return The boxed integer.
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	public final static Integer valueOf(int v) {
+		return v >= LOW && v < LOW + INTS.length ? INTS[v - LOW] : Integer.valueOf(v);
+	}
+
+	final static int toInt32(double v) {
+		return (int)(long)(v % 4294967296.0);
+	}
+
+	private final static Number valueOf(long v) {
+		if ((int)v == v) {
+			return valueOf((int)v);
+		}
+		if (v > LMAX || v < LMIN) {
+			return (double)v;
+		}
+		return v;
 	}
 
 	/**
@@ -109,6 +136,9 @@ public final class SimUtil
 	 */
 	public final static Number neg(Object var) {
 		Number n = getNumber(var);
+		if (n instanceof Integer) {
+			return valueOf(-(long)((Integer)n).intValue());
+		}
 		switch (tid(n))
 		{
 			case BYTE:
@@ -137,6 +167,9 @@ public final class SimUtil
 	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
 	 */
 	public final static Number add(Number var, Number other) {
+		if (var instanceof Integer && other instanceof Integer) {
+			return valueOf((long)((Integer)var).intValue() + ((Integer)other).intValue());
+		}
 		switch (tid(var))
 		{
 			case BYTE:
@@ -181,7 +214,7 @@ public final class SimUtil
 				if ((int)v != v) {
 					return limit(v);
 				} else {
-					return (int)limit(v);
+					return valueOf((int)v);
 				}
 			}
 			case LONG:
@@ -226,7 +259,7 @@ public final class SimUtil
 				if ((int)v != v) {
 					return limit(v);
 				} else {
-					return (int)limit(v);
+					return valueOf((int)v);
 				}
 			}
 			case LONG:
@@ -263,7 +296,7 @@ public final class SimUtil
 				if ((int)v != v) {
 					return limit(v);
 				} else {
-					return (int)limit(v);
+					return valueOf((int)v);
 				}
 			}
 			case LONG:
@@ -350,6 +383,9 @@ public final class SimUtil
 	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
 	 */
 	public final static Number mul(Number var, Number other) {
+		if (var instanceof Integer && other instanceof Integer) {
+			return valueOf((long)((Integer)var).intValue() * ((Integer)other).intValue());
+		}
 		switch (tid(var))
 		{
 			case BYTE:
@@ -394,7 +430,7 @@ public final class SimUtil
 				if ((int)v != v) {
 					return limit(v);
 				} else {
-					return (int)limit(v);
+					return valueOf((int)v);
 				}
 			}
 			case LONG:
@@ -439,7 +475,7 @@ public final class SimUtil
 				if ((int)v != v) {
 					return limit(v);
 				} else {
-					return (int)limit(v);
+					return valueOf((int)v);
 				}
 			}
 			case LONG:
@@ -476,7 +512,7 @@ public final class SimUtil
 				if ((int)v != v) {
 					return limit(v);
 				} else {
-					return (int)limit(v);
+					return valueOf((int)v);
 				}
 			}
 			case LONG:
@@ -568,83 +604,26 @@ public final class SimUtil
 	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
 	 */
 	public final static Number div(Number var, Number other) {
-		byte tid = tid(other);
+		if (var instanceof Integer && other instanceof Integer) {
+			int a = ((Integer)var).intValue(), b = ((Integer)other).intValue();
+			if (b != 0 && a % b == 0) {
+				return valueOf((long)a / b);
+			}
+			return (double)a / b;
+		}
+		byte ta = tid(var), tb = tid(other);
+		if (ta >= BYTE && ta <= LONG && tb >= BYTE && tb <= LONG) {
+			long a = var.longValue(), b = other.longValue();
+			if (b != 0 && a % b == 0 && (a != Long.MIN_VALUE || b != -1)) {
+				return valueOf(a / b);
+			}
+			return (double)a / b;
+		}
 		double d = var.doubleValue() / other.doubleValue();
-		switch (tid(var))
-		{
-			case BYTE:
-				switch (tid)
-				{
-					case BYTE:
-					case SHORT:
-					case INTEGER:
-					case LONG:
-						byte v = (byte)(((Byte)var).byteValue() / limit(((Number)other).longValue()));
-						if (v != d) {
-							return d;
-						} else {
-							return v;
-						}
-				}
-			case SHORT:
-				switch (tid)
-				{
-					case BYTE:
-					case SHORT:
-					case INTEGER:
-					case LONG:
-						short v = (short)(((Short)var).shortValue() / limit(((Number)other).longValue()));
-						if (v != d) {
-							return d;
-						} else {
-							return v;
-						}
-				}
-			case INTEGER:
-				switch (tid)
-				{
-					case BYTE:
-					case SHORT:
-					case INTEGER:
-						long v = var.longValue() / other.longValue();
-						if ((int)v != v) {
-							return limit(v);
-						} else {
-							return (int)limit(v);
-						}
-				}
-			case LONG:
-				switch (tid)
-				{
-					case BYTE:
-					case SHORT:
-					case INTEGER:
-					case LONG:
-						float v = var.floatValue() / other.floatValue();
-						if ((long)v != v) {
-							return v;
-						} else {
-							return (long)v;
-						}
-				}
-			case FLOAT:
-				switch (tid)
-				{
-					case BYTE:
-					case SHORT:
-					case INTEGER:
-					case LONG:
-					case FLOAT:
-						double v = var.doubleValue() / other.doubleValue();
-						if ((float)v != v) {
-							return v;
-						} else {
-							return (float)v;
-						}
-				}
-			default:
-				return d;
+		if (ta >= BYTE && ta <= FLOAT && tb >= BYTE && tb <= FLOAT && (float)d == d) {
+			return (float)d;
 		}
+		return d;
 	}
 
 	/**
@@ -663,83 +642,20 @@ public final class SimUtil
 	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
 	 */
 	public final static Number mod(Number var, Number other) {
-		byte tid = tid(other);
+		if (var instanceof Integer && other instanceof Integer) {
+			int b = ((Integer)other).intValue();
+			return b == 0 ? Double.NaN : (Number)valueOf(((Integer)var).intValue() % b);
+		}
+		byte ta = tid(var), tb = tid(other);
+		if (ta >= BYTE && ta <= LONG && tb >= BYTE && tb <= LONG) {
+			long a = var.longValue(), b = other.longValue();
+			return b == 0 ? Double.NaN : (Number)valueOf(a % b);
+		}
 		double d = var.doubleValue() % other.doubleValue();
-		switch (tid(var))
-		{
-			case BYTE:
-				switch (tid)
-				{
-					case BYTE:
-					case SHORT:
-					case INTEGER:
-					case LONG:
-						byte v = (byte)(((Byte)var).byteValue() % limit(((Number)other).longValue()));
-						if (v != d) {
-							return d;
-						} else {
-							return v;
-						}
-				}
-			case SHORT:
-				switch (tid)
-				{
-					case BYTE:
-					case SHORT:
-					case INTEGER:
-					case LONG:
-						short v = (short)(((Short)var).shortValue() % limit(((Number)other).longValue()));
-						if (v != d) {
-							return d;
-						} else {
-							return v;
-						}
-				}
-			case INTEGER:
-				switch (tid)
-				{
-					case BYTE:
-					case SHORT:
-					case INTEGER:
-						long v = var.longValue() % other.longValue();
-						if ((int)v != v) {
-							return limit(v);
-						} else {
-							return (int)limit(v);
-						}
-				}
-			case LONG:
-				switch (tid)
-				{
-					case BYTE:
-					case SHORT:
-					case INTEGER:
-					case LONG:
-						float v = var.floatValue() % other.floatValue();
-						if ((long)v != v) {
-							return v;
-						} else {
-							return (long)v;
-						}
-				}
-			case FLOAT:
-				switch (tid)
-				{
-					case BYTE:
-					case SHORT:
-					case INTEGER:
-					case LONG:
-					case FLOAT:
-						double v = var.doubleValue() % other.doubleValue();
-						if ((float)v != v) {
-							return v;
-						} else {
-							return (float)v;
-						}
-				}
-			default:
-				return d;
+		if (ta >= BYTE && ta <= FLOAT && tb >= BYTE && tb <= FLOAT && (float)d == d) {
+			return (float)d;
 		}
+		return d;
 	}
 
 	static String getConnectionResponseHeaders(URLConnection c) {
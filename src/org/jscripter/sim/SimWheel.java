@@ -0,0 +1,206 @@
+
+/*
+ *  JScripter Simulation 1.0 - For Java To Script
+ *  Copyright (C) 2008-2011  J.J.Liu<jianjunliu@126.com> <http://www.jscripter.org>
+ *  
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Affero General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *  
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Affero General Public License for more details.
+ *  
+ *  You should have received a copy of the GNU Affero General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.jscripter.sim;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import js.Context;
+
+final class SimWheel
+{
+	private static final int SIZE = 512;
+	private static final int MASK = SIZE - 1;
+
+	private static final Object lock = new Object();
+	private static final SimTimer[] buckets = new SimTimer[SIZE];
+	private static final SimTimer[] tails = new SimTimer[SIZE];
+	private static long tick;
+	private static int count;
+	private static Thread thread;
+
+	private SimWheel() {}
+
+	static final long now() {
+		return System.nanoTime() / 1000000L;
+	}
+
+	static final SimTimer schedule(SimTimer t) {
+		if (t.loop.schedule(t)) {
+			return t;
+		}
+		synchronized (lock) {
+			if (thread == null) {
+				tick = now();
+				thread = new Thread(new Runnable() {
+					//@Override
+					public void run() {
+						Context.detach();
+						SimWheel.run();
+					}
+				}, SimWheel.class.getName());
+				thread.setDaemon(false);
+				thread.start();
+			}
+			t.loop.hold();
+			add(t, now() + t.delay);
+			lock.notify();
+		}
+		return t;
+	}
+
+	static final void cancel(SimTimer t) {
+		if (t.loop.cancel(t)) {
+			return;
+		}
+		synchronized (lock) {
+			if (t.bucket < 0) {
+				return;
+			}
+			remove(t);
+			if (count == 0) {
+				lock.notify();
+			}
+		}
+		t.loop.release();
+	}
+
+	static final List<SimTimer> migrate(SimLoop loop) {
+		List<SimTimer> ret = new ArrayList<SimTimer>();
+		synchronized (lock) {
+			for (int i = 0; i < SIZE; i++) {
+				for (SimTimer t = buckets[i], n; t != null; t = n) {
+					n = t.next;
+					if (t.loop == loop) {
+						remove(t);
+						ret.add(t);
+					}
+				}
+			}
+			if (count == 0) {
+				lock.notify();
+			}
+		}
+		Collections.sort(ret, new Comparator<SimTimer>() {
+			//@Override
+			public int compare(SimTimer a, SimTimer b) {
+				return a.deadline < b.deadline ? -1 : a.deadline > b.deadline ? 1 : 0;
+			}
+		});
+		return ret;
+	}
+
+	private static final void add(SimTimer t, long deadline) {
+		if (deadline < tick) {
+			deadline = tick;
+		}
+		int b = (int)(deadline & MASK);
+		t.deadline = deadline;
+		t.rounds = (deadline - tick) / SIZE;
+		t.bucket = b;
+		t.prev = tails[b];
+		t.next = null;
+		if (t.prev != null) {
+			t.prev.next = t;
+		} else {
+			buckets[b] = t;
+		}
+		tails[b] = t;
+		count++;
+	}
+
+	private static final void remove(SimTimer t) {
+		if (t.prev != null) {
+			t.prev.next = t.next;
+		} else {
+			buckets[t.bucket] = t.next;
+		}
+		if (t.next != null) {
+			t.next.prev = t.prev;
+		} else {
+			tails[t.bucket] = t.prev;
+		}
+		t.prev = t.next = null;
+		t.bucket = -1;
+		count--;
+	}
+
+	private static final void run() {
+		List<SimTimer> due = new ArrayList<SimTimer>();
+		List<SimTimer> done = new ArrayList<SimTimer>();
+		while (true) {
+			synchronized (lock) {
+				long now = now();
+				for (; tick <= now; tick++) {
+					for (SimTimer t = buckets[(int)(tick & MASK)], n; t != null; t = n) {
+						n = t.next;
+						if (t.rounds > 0) {
+							t.rounds--;
+						} else {
+							remove(t);
+							due.add(t);
+						}
+					}
+				}
+				for (SimTimer t : due) {
+					if (t.period > 0 && !t.disposed()) {
+						long next = t.deadline + t.period;
+						if (next <= now) {
+							next += ((now - next) / t.period + 1) * t.period;
+						}
+						add(t, next);
+					} else {
+						done.add(t);
+					}
+				}
+				if (due.isEmpty()) {
+					if (count == 0) {
+						thread = null;
+						break;
+					}
+					int d = 0;
+					while (d < SIZE && buckets[(int)((tick + d) & MASK)] == null) {
+						d++;
+					}
+					try {
+						lock.wait(Math.max(1, tick + d - now));
+					} catch (InterruptedException e) {
+						thread = null;
+						return;
+					}
+					continue;
+				}
+			}
+			for (SimTimer t : due) {
+				if (!t.disposed() && !t.running) {
+					t.running = true;
+					t.loop.post(t);
+				}
+			}
+			for (SimTimer t : done) {
+				t.loop.release();
+			}
+			due.clear();
+			done.clear();
+		}
+	}
+}
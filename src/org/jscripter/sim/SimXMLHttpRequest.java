@@ -52,6 +52,7 @@ class SimXMLHttpRequest extends JsXMLHttpRequest
 	private boolean async;
 	private boolean sent;
 	private URLConnection conn;
+	private SimLoop loop;
 	private String userAgent = DEFAULT_USERAGENT;
 	private String postCharset = DEFAULT_AJAX_CHARSET;
 
@@ -169,15 +170,29 @@ class SimXMLHttpRequest extends JsXMLHttpRequest
 	@Override
 	public void send(final Object body) {
 		if (async) {
-			new Thread(getClass().getName() + "-" + url.getHost()) {
+			final String content = Js.toString(body);
+			final SimLoop l = SimLoop.current();
+			synchronized (this) {
+				loop = l;
+			}
+			l.hold();
+			SimHttp.submit(url.getHost(), new Runnable() {
+				//@Override
 				public void run() {
 					try {
-						sendSync(Js.toString(body));
+						sendSync(content);
 					} catch (Throwable t) {
 						throw new RuntimeException(t);
+					} finally {
+						synchronized (SimXMLHttpRequest.this) {
+							if (loop == l) {
+								loop = null;
+							}
+						}
+						l.release();
 					}
 				}
-			}.start();
+			});
 		} else {
 			try {
 				sendSync(Js.toString(body));
@@ -276,14 +291,32 @@ class SimXMLHttpRequest extends JsXMLHttpRequest
 		}
 	}
 
-	protected void changeState(int rs, int st, String stxt, byte[] bytes) {
+	protected void changeState(final int rs, final int st, final String stxt, final byte[] bytes) {
+		final String text = rs == LOADED ? getResponseText(bytes) : null;
+		SimLoop l;
+		synchronized (this) {
+			l = loop;
+		}
+		if (l == null) {
+			changeState(rs, st, stxt, bytes, text);
+		} else {
+			l.post(new Runnable() {
+				//@Override
+				public void run() {
+					changeState(rs, st, stxt, bytes, text);
+				}
+			});
+		}
+	}
+
+	private void changeState(int rs, int st, String stxt, byte[] bytes, String text) {
 		synchronized(this) {
 			var(readyState, rs);
 			var(status, st);
 			var(statusText, stxt);
 			this.responseBytes = bytes;
 			if (rs == LOADED) {
-				var(responseText, getResponseText());
+				var(responseText, text);
 			}
 		}
 		JsFunction<?> on = onreadystatechange.with(this);
@@ -292,8 +325,7 @@ class SimXMLHttpRequest extends JsXMLHttpRequest
 		}
 	}
 
-	private synchronized String getResponseText() {
-		byte[] bytes = this.responseBytes;
+	private synchronized String getResponseText(byte[] bytes) {
 		String encoding = SimUtil.getCharset(conn);
 		if (encoding == null) {
 			encoding = postCharset;
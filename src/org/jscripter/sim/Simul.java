@@ -23,6 +23,8 @@ import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
 import java.net.URLEncoder;
 import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.Executor;
 
 import javax.swing.JOptionPane;
 
@@ -218,8 +220,8 @@ public abstract class Simul extends Sim
 	 */
 	@Override
 	protected final void clearInterval(Object intervalId) {
-		if (intervalId instanceof Thread) {
-			((SimThread)intervalId).clear();
+		if (intervalId instanceof SimTimer) {
+			((SimTimer)intervalId).clear();
 		} else if (!isCore()) {
 			Js.win().clearInterval(intervalId);
 		}
@@ -243,8 +245,8 @@ public abstract class Simul extends Sim
 	 */
 	@Override
 	protected final void clearTimeout(Object timeoutId) {
-		if (timeoutId instanceof Thread) {
-			((SimThread)timeoutId).clear();
+		if (timeoutId instanceof SimTimer) {
+			((SimTimer)timeoutId).clear();
 		} else if (!isCore()) {
 			Js.win().clearTimeout(timeoutId);
 		}
@@ -276,10 +278,10 @@ public abstract class Simul extends Sim
 	protected final Object setInterval(JsFunction<?> f, Number interval) {
 		if (!isCore()) {
 			if (Browser.isIE) {
-				return interval != null ? Js.win().setInterval(f, interval) : Js.win().setInterval(f, 1);
+				return Js.win().setInterval(serialize(f), interval != null ? interval : 1);
 			}
 		}
-		return new SimInterval(f, interval);
+		return SimWheel.schedule(new SimTimer(loop(), f, interval, true));
 	}
 
 	/**
@@ -308,10 +310,223 @@ public abstract class Simul extends Sim
 	protected final Object setTimeout(JsFunction<?> f, Number delay) {
 		if (!isCore()) {
 			if (Browser.isIE) {
-				return delay != null ? Js.win().setTimeout(f, delay) : Js.win().setTimeout(f, 1);
+				return Js.win().setTimeout(serialize(f), delay != null ? delay : 1);
 			}
 		}
-		return new SimTimeout(f, delay);
+		return SimWheel.schedule(new SimTimer(loop(), f, delay, false));
+	}
+
+	private final SimLoop loop() {
+		SimLoop l = SimLoop.current();
+		if (!isCore()) {
+			l.plugin();
+		}
+		return l;
+	}
+
+	private static final JsFunction<?> serialize(final JsFunction<?> f) {
+		return new Function<Object>() {
+			@Override
+			protected Object function(Object jsthis, Call<Object> callee) {
+				synchronized(JsApplet.class) {
+					return f.invoke();
+				}
+			}
+		}.var();
+	}
+
+	/**
+	 * <p>Internally queues a task to the event loop of the current simulation.</p>
+	 * <p>Each simulation context runs its own event loop on a single thread, which also 
+	 * runs the timer callbacks and the asynchronous HTTP request callbacks of that context 
+	 * one at a time, so that the queued task is not interleaved with any other callback.</p>
+	 * @param task The task to be run on the event loop.
+	 * @see #defer(Runnable)
+	 * @see js.Context
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	public static final void post(Runnable task) {
+		SimLoop.current().post(task);
+	}
+
+	/**
+	 * <p>Internally queues a task to be run on the event loop of the current simulation as 
+	 * soon as the running task completes, before any other task queued with 
+	 * {@link #post(Runnable)} or by timers.</p>
+	 * @param task The task to be run on the event loop.
+	 * @see #post(Runnable)
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	public static final void defer(Runnable task) {
+		SimLoop.current().defer(task);
+	}
+
+	/**
+	 * <p>Internally switches the current simulation to virtual time.</p>
+	 * <p>In virtual time, the timers no longer wait for the wall clock, including the 
+	 * pending ones, which keep the time left before they fall due, and the current date 
+	 * returned by {@link Js#date()} is read from a virtual clock, which stands still until 
+	 * it is moved by {@link #advance(long)} or {@link #runUntilIdle()}. Timers that fall 
+	 * due at the same virtual time run in the order they were set, so that timer driven 
+	 * code such as animations runs deterministically and without delays.</p>
+	 * @param time The time the virtual clock starts from, in milliseconds since midnight, 
+	 * January 1, 1970 UTC.
+	 * @see #advance(long)
+	 * @see #runUntilIdle()
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	public static final void useVirtualTime(long time) {
+		SimLoop.current().virtualize(time);
+	}
+
+	/**
+	 * <p>Internally advances the virtual clock of the current simulation.</p>
+	 * <p>The clock only moves while the event loop is idle. It is moved from one timer 
+	 * due time to the next, and the tasks queued by each timer callback run before the 
+	 * clock moves on. HTTP requests in flight are not waited for. The method returns when 
+	 * the loop is idle again. While the loop has no thread of its own, the calling thread 
+	 * runs the callbacks in its place.</p>
+	 * @param ms The amount of time, in milliseconds, to advance the clock by.
+	 * @throws IllegalStateException if the simulation is not in virtual time or if the 
+	 * method is invoked on the event loop.
+	 * @see #useVirtualTime(long)
+	 * @see #runUntilIdle()
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	public static final void advance(long ms) {
+		SimLoop.current().advance(ms);
+	}
+
+	/**
+	 * <p>Internally runs the current simulation in virtual time until no task or timer is 
+	 * left, moving the virtual clock to the due time of each timer in turn.</p>
+	 * @throws IllegalStateException if the simulation is not in virtual time, if the 
+	 * method is invoked on the event loop or if the timers keep on running, as intervals 
+	 * do, after a hundred thousand timer callbacks.
+	 * @see #useVirtualTime(long)
+	 * @see #advance(long)
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	public static final void runUntilIdle() {
+		SimLoop.current().runUntilIdle();
+	}
+
+	/**
+	 * <p>Internally sets the executor that runs the I/O of asynchronous HTTP requests.</p>
+	 * <p>The default executor runs each request on a virtual thread where the Java runtime 
+	 * supports them, or on a pooled daemon thread otherwise. Either way, the number of 
+	 * requests handed to the executor at a time is bounded, see {@link #httpLimit(int, int)}, 
+	 * and the others wait in a queue.</p>
+	 * @param executor The executor, or <tt>null</tt> for the default one.
+	 * @see #httpLimit(int, int)
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	public static final void httpExecutor(Executor executor) {
+		SimHttp.executor(executor);
+	}
+
+	/**
+	 * <p>Internally limits the number of asynchronous HTTP requests in flight.</p>
+	 * <p>The limits default to 64 requests in all and 6 requests to the same host. Requests 
+	 * over the limits are queued and sent in the order they were issued as soon as the 
+	 * limits allow.</p>
+	 * @param inFlight The maximum number of requests in flight.
+	 * @param perHost The maximum number of requests in flight to the same host.
+	 * @see #httpExecutor(Executor)
+	 * @see #httpInFlight()
+	 * @see #httpQueued()
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	public static final void httpLimit(int inFlight, int perHost) {
+		SimHttp.limit(inFlight, perHost);
+	}
+
+	/**
+	 * <p>Internally gets the number of asynchronous HTTP requests in flight.</p>
+	 * @return The number of requests handed to the executor and not yet completed.
+	 * @see #httpLimit(int, int)
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	public static final int httpInFlight() {
+		return SimHttp.inFlight();
+	}
+
+	/**
+	 * <p>Internally gets the number of asynchronous HTTP requests waiting in the queue.</p>
+	 * @return The number of queued requests.
+	 * @see #httpMaxQueued()
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	public static final int httpQueued() {
+		return SimHttp.queued();
+	}
+
+	/**
+	 * <p>Internally gets the largest number of asynchronous HTTP requests ever waiting in 
+	 * the queue at a time.</p>
+	 * @return The largest number of queued requests.
+	 * @see #httpQueued()
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	public static final int httpMaxQueued() {
+		return SimHttp.maxQueued();
+	}
+
+	/**
+	 * <p>Internally gets the average time asynchronous HTTP requests waited in the queue.</p>
+	 * @return The average waiting time, in milliseconds.
+	 * @see #httpMaxLatency()
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	public static final double httpLatency() {
+		return SimHttp.latency();
+	}
+
+	/**
+	 * <p>Internally gets the longest time an asynchronous HTTP request waited in the queue.</p>
+	 * @return The longest waiting time, in milliseconds.
+	 * @see #httpLatency()
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	public static final double httpMaxLatency() {
+		return SimHttp.maxLatency();
+	}
+
+	/**
+	 * <p>Internally gets the number of times a regular expression was found already 
+	 * compiled in the shared cache of patterns.</p>
+	 * @return The number of cache hits.
+	 * @see #regExpMisses()
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	public static final long regExpHits() {
+		return SimPatterns.hits();
+	}
+
+	/**
+	 * <p>Internally gets the number of times a regular expression had to be compiled 
+	 * because it was not in the shared cache of patterns.</p>
+	 * <p>The cache keeps the 256 most recently used patterns.</p>
+	 * @return The number of cache misses.
+	 * @see #regExpHits()
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	public static final long regExpMisses() {
+		return SimPatterns.misses();
 	}
 
 	/**
@@ -746,6 +961,51 @@ public abstract class Simul extends Sim
 		return ((SimObjectLike)o).iterator();
 	}
 
+	/**
+	 * <p>Gets a snapshot of the member values of an object.</p>
+	 * @param o The object.
+	 * @return An array of the member values of the object.
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	public final Object[] values(ObjectLike o) {
+		return ((SimObjectLike)o).values();
+	}
+
+	/**
+	 * <p>Internally copies a simulated object, array, date or regular expression.</p>
+	 * <p>The copy is shallow, except that the members of an object or the elements of an 
+	 * array are replaced with their copies, if any, in the specified map. Values of other 
+	 * types are returned as they are.</p>
+	 * @param o The value to copy.
+	 * @param copies A map from original values to their copies.
+	 * @return The copy of the value.
+	 * @see Context#fork()
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	public final Object copy(Object o, Map<Object, Object> copies) {
+		if (o instanceof SimObjectLike) {
+			return ((SimObjectLike)o).copy(copies);
+		} else if (o instanceof ArrayLike<?>) {
+			@SuppressWarnings("unchecked")
+			ArrayLike<Object> ret = (ArrayLike<Object>)((ArrayLike<?>)o).slice(0);
+			for (int i = 0, len = ret.length(); i < len; i++) {
+				Object c = copies.get(ret.get(i));
+				if (c != null) {
+					ret.set(i, c);
+				}
+			}
+			return ret;
+		} else if (o instanceof DateLike) {
+			return new SimDateLike(((DateLike)o).getTime());
+		} else if (o instanceof SimRegExpLike) {
+			return ((SimRegExpLike)o).copy();
+		} else {
+			return o;
+		}
+	}
+
 	/**
 	 * <p>Gets the list of the property names of an object.</p>
 	 * @param o The object.
@@ -1046,6 +1306,190 @@ public abstract class Simul extends Sim
 		return new SimArrayLike<Double>(new SimArrayDouble(a));
 	}
 
+	/**
+	 * <p>Gets an array element as an <tt>int</tt> value without boxing it if possible.</p>
+	 * @param a The array.
+	 * @param i The array index of the element.
+	 * @return The element converted to an <tt>int</tt> value or <tt>0</tt> if it is undefined.
+	 * @see #getDouble(ArrayLike, int)
+	 * @see Js#getInt(ArrayLike, int)
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	@Override
+	protected int getInt(ArrayLike<?> a, int i) {
+		if (a instanceof SimArrayPrimitive) {
+			return ((SimArrayPrimitive)a).getInt(i);
+		}
+		Object v = a.get(i);
+		return v == null ? 0 : SimUtil.toInt32(getNumber(v).doubleValue());
+	}
+
+	/**
+	 * <p>Gets an array element as a <tt>double</tt> value without boxing it if possible.</p>
+	 * @param a The array.
+	 * @param i The array index of the element.
+	 * @return The element converted to a <tt>double</tt> value or <tt>NaN</tt> if it is undefined.
+	 * @see #getInt(ArrayLike, int)
+	 * @see Js#getDouble(ArrayLike, int)
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	@Override
+	protected double getDouble(ArrayLike<?> a, int i) {
+		if (a instanceof SimArrayPrimitive) {
+			return ((SimArrayPrimitive)a).getDouble(i);
+		}
+		Object v = a.get(i);
+		return v == null ? Double.NaN : getNumber(v).doubleValue();
+	}
+
+	/**
+	 * <p>Sets an array element to an <tt>int</tt> value without boxing it if possible.</p>
+	 * @param a The array.
+	 * @param i The array index of the element.
+	 * @param v The new value of the element.
+	 * @see #setDouble(ArrayLike, int, double)
+	 * @see Js#setInt(ArrayLike, int, int)
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	protected void setInt(ArrayLike<?> a, int i, int v) {
+		if (a instanceof SimArrayPrimitive) {
+			((SimArrayPrimitive)a).setInt(i, v);
+		} else {
+			((ArrayLike<Object>)a).set(i, v);
+		}
+	}
+
+	/**
+	 * <p>Sets an array element to a <tt>double</tt> value without boxing it if possible.</p>
+	 * @param a The array.
+	 * @param i The array index of the element.
+	 * @param v The new value of the element.
+	 * @see #setInt(ArrayLike, int, int)
+	 * @see Js#setDouble(ArrayLike, int, double)
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	protected void setDouble(ArrayLike<?> a, int i, double v) {
+		if (a instanceof SimArrayPrimitive) {
+			((SimArrayPrimitive)a).setDouble(i, v);
+		} else {
+			((ArrayLike<Object>)a).set(i, v);
+		}
+	}
+
+	/**
+	 * <p>Internally gets the number of threads that may run the functions passed to the 
+	 * bulk array operations in parallel.</p>
+	 * <p>Large arrays created from primitive Java arrays are split into as many parts 
+	 * as the returned number. By default, this method returns <tt>1</tt> so that the 
+	 * functions run on the event loop of the simulation like any other script code. 
+	 * Subclasses may return a greater number, such as the number of available processors, 
+	 * only if the functions they pass are safe to call concurrently.</p>
+	 * @return The number of threads; <tt>1</tt> if the functions must run sequentially 
+	 * on the calling thread.
+	 * @see #map(ArrayLike, JsFunction, int, int)
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	protected int parallelism() {
+		return 1;
+	}
+
+	/**
+	 * <p>Creates an array of the results of calling a function on each element in a range 
+	 * of an array, possibly in parallel.</p>
+	 * @param a The array.
+	 * @param f The function called with an element and its array index.
+	 * @param from The array index of the first element.
+	 * @param to The array index after the last element.
+	 * @return The newly created array of the results.
+	 * @see #parallelism()
+	 * @see Js#map(ArrayLike, JsFunction, int, int)
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	@Override
+	protected <T> ArrayLike<T> map(ArrayLike<?> a, JsFunction<T> f, int from, int to) {
+		return SimBulk.map(a, f, from, to, parallelism());
+	}
+
+	/**
+	 * <p>Creates an array of the elements in a range of an array for which a function 
+	 * evaluates to <tt>true</tt>, possibly calling the function in parallel.</p>
+	 * @param a The array.
+	 * @param f The function called with an element and its array index.
+	 * @param from The array index of the first element.
+	 * @param to The array index after the last element.
+	 * @return The newly created array of the elements kept.
+	 * @see #parallelism()
+	 * @see Js#filter(ArrayLike, JsFunction, int, int)
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	@Override
+	protected <T> ArrayLike<T> filter(ArrayLike<T> a, JsFunction<?> f, int from, int to) {
+		return SimBulk.filter(a, f, from, to, parallelism());
+	}
+
+	/**
+	 * <p>Folds the elements in a range of an array with a function.</p>
+	 * <p>The elements are always folded sequentially from the first one, so that the 
+	 * function needs not be associative.</p>
+	 * @param a The array.
+	 * @param f The function called with the value accumulated so far and an element.
+	 * @param initial The initial value.
+	 * @param from The array index of the first element.
+	 * @param to The array index after the last element.
+	 * @return The accumulated value.
+	 * @see Js#reduce(ArrayLike, JsFunction, Object, int, int)
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	@Override
+	protected <T> T reduce(ArrayLike<?> a, JsFunction<T> f, Object initial, int from, int to) {
+		return SimBulk.reduce(a, f, initial, from, to);
+	}
+
+	/**
+	 * <p>Calls a function on each element in a range of an array, possibly in parallel.</p>
+	 * @param a The array.
+	 * @param f The function called with an element and its array index.
+	 * @param from The array index of the first element.
+	 * @param to The array index after the last element.
+	 * @see #parallelism()
+	 * @see Js#forEach(ArrayLike, JsFunction, int, int)
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	@Override
+	protected void forEach(ArrayLike<?> a, JsFunction<?> f, int from, int to) {
+		SimBulk.forEach(a, f, from, to, parallelism());
+	}
+
+	/**
+	 * <p>Searches a range of an array for the first element equal to a value, in parallel 
+	 * on the available processors for large arrays of primitive values.</p>
+	 * @param a The array.
+	 * @param v The value to search for.
+	 * @param from The array index of the first element.
+	 * @param to The array index after the last element.
+	 * @return The array index of the first element found or <tt>-1</tt> if none is found.
+	 * @see Js#indexOf(ArrayLike, Object, int, int)
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	@Override
+	protected int indexOf(ArrayLike<?> a, Object v, int from, int to) {
+		return SimBulk.indexOf(a, v, from, to, SimPool.CPUS);
+	}
+
 	/**
 	 * <p>Creates a date object set to the current system date and time.</p>
 	 * @return The newly created date object.
@@ -1385,6 +1829,21 @@ public abstract class Simul extends Sim
 		}
 	}
 
+	/**
+	 * <p>Converts a number to a string, resembling the conversion of numbers to strings in 
+	 * JavaScript.</p>
+	 * @param var A number.
+	 * @return The shortest string representation of the number that reads back as the 
+	 * same number.
+	 * @see Js#toString(Object)
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	@Override
+	protected String toString(Number var) {
+		return SimFormat.toString(var);
+	}
+
 	/**
 	 * <p>Gets the number representation of the argument if it is numeric.</p>
 	 * @param var Any variable
@@ -1394,6 +1853,9 @@ public abstract class Simul extends Sim
 	 */
 	@Override
 	protected Number getNumber(Object var) {
+		if (var instanceof Integer || var instanceof Double) {
+			return (Number)var;
+		}
 		var = var instanceof Var<?> ? ((Var<?>)var).var() : var;
 		var = Js.valueOf(var);
 		return var instanceof String ? number((String)var) : SimUtil.getNumber(var);
@@ -1483,6 +1945,83 @@ public abstract class Simul extends Sim
 		return SimUtil.div(var, other);
 	}
 
+	/**
+	 * <p>Performs unary negation on a primitive number, resembling the unary minus operator 
+	 * in JavaScript. The operation is performed without boxing the numbers or the 
+	 * result.</p>
+	 * @param var A number.
+	 * @return The negation of the number.
+	 * @see #neg(Number)
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	@Override
+	protected double neg(double var) {
+		return -var;
+	}
+
+	/**
+	 * <p>Adds primitive numbers, resembling the addition operator in JavaScript. The 
+	 * operation is performed without boxing the numbers or the result.</p>
+	 * @param var A number.
+	 * @param other A number.
+	 * @return The sum of the two numbers.
+	 * @see #add(Number, Number)
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	@Override
+	protected double add(double var, double other) {
+		return var + other;
+	}
+
+	/**
+	 * <p>Computes the first primitive number modulo the second, resembling the modulo 
+	 * operator in JavaScript. The operation is performed without boxing the numbers or the 
+	 * result.</p>
+	 * @param var A number.
+	 * @param other A number.
+	 * @return The remainder.
+	 * @see #mod(Number, Number)
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	@Override
+	protected double mod(double var, double other) {
+		return var % other;
+	}
+
+	/**
+	 * <p>Multiplies primitive numbers, resembling the multiplication operator in JavaScript. 
+	 * The operation is performed without boxing the numbers or the result.</p>
+	 * @param var A number.
+	 * @param other A number.
+	 * @return The product of the two numbers.
+	 * @see #mul(Number, Number)
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	@Override
+	protected double mul(double var, double other) {
+		return var * other;
+	}
+
+	/**
+	 * <p>Divides the first primitive number by the second, resembling the division operator 
+	 * in JavaScript. The operation is performed without boxing the numbers or the 
+	 * result.</p>
+	 * @param var A number.
+	 * @param other A number.
+	 * @return The quotient of the two numbers.
+	 * @see #div(Number, Number)
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	@Override
+	protected double div(double var, double other) {
+		return var / other;
+	}
+
 	/**
 	 * <p>Less-than operation, resembling that of JavaScript, evaluates to <tt>true</tt> if 
 	 * the first operand is less than the second operand; otherwise it evaluates to 
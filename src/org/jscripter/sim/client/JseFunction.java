@@ -128,6 +128,15 @@ class JseFunction<T> extends JsFunction<T> implements Unwrappable<JseObject>, Li
 	}
 	@SuppressWarnings("unchecked")
 	@Override
+	public final T invoke(Object arg0, Object arg1) {
+		if (unwrap() instanceof HasFun<?>) {
+			return ((HasFun<T>)unwrap()).getFunction().invoke(arg0, arg1);
+		}
+		Object f = unwrap().var(Members.function);
+		return f instanceof Function<?> ? ((Function<T>)f).invoke(arg0, arg1) : cast(unwrap().callMember(Members.call, new Vars<Object>().add(Js.core()).add(arg0).add(arg1)));
+	}
+	@SuppressWarnings("unchecked")
+	@Override
 	public final T invoke(Vars<?> args) {
 		if (unwrap() instanceof HasFun<?>) {
 			return ((HasFun<T>)unwrap()).getFunction().invoke(args);
@@ -19,7 +19,9 @@
 
 package org.jscripter.sim.core;
 
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.Map;
 
 import org.jscripter.sim.Simul;
 
@@ -39,32 +41,108 @@ import js.user.*;
 public class Core extends Simul
 {
 	private static Core singleton;
+	private static final JscCache shared = new JscCache();
+
+	static final JscCache cache() {
+		Context c = Context.current();
+		return c != null && c.sim() instanceof Core ? ((Core)c.sim()).cache : shared;
+	}
+
+	private final JscCache cache = new JscCache();
 
 	/**
 	 * <p>Internally determines whether a JS Core Simulation is running.</p>
+	 * <p>If a {@link Context} is entered on the current thread, this method checks the 
+	 * simulation of that context instead.</p>
 	 * @return <tt>true</tt> if there is a JS Core Simulation running; <tt>false</tt> otherwise.
 	 * @since 1.0
 	 * 
 	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> constructor. 
 	 */
-	public final static synchronized boolean isRunning() {
-		return singleton != null;
+	public final static boolean isRunning() {
+		Context c = Context.current();
+		if (c != null) {
+			return c.sim() instanceof Core;
+		}
+		synchronized (Core.class) {
+			return singleton != null;
+		}
 	}
 
 	/**
 	 * <p>Internally gets a JS Core Simulation.</p>
+	 * <p>If a {@link Context} of this kind of simulation is entered on the current 
+	 * thread, this method returns the simulation of that context.</p>
 	 * @return A Js Core Simulation.
 	 * @since 1.0
 	 * 
 	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> constructor. 
 	 */
-	public final static synchronized Core get() {
-		if (singleton == null) {
-			singleton = new Core();
+	public final static Core get() {
+		Context c = Context.current();
+		if (c != null && c.sim() instanceof Core) {
+			return (Core)c.sim();
+		}
+		synchronized (Core.class) {
+			if (singleton == null) {
+				singleton = new Core();
+			}
+			return singleton;
 		}
-		return singleton;
 	}
 
+	/**
+	 * <p>Internally creates a JS Core Simulation which is not shared with {@link #get()}, 
+	 * to be run in its own {@link Context}.</p>
+	 * @return A new Js Core Simulation.
+	 * @see Context#create(Sim)
+	 * @since 1.0
+	 * 
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> constructor. 
+	 */
+	public final static Core create() {
+		return new Core();
+	}
+
+	/**
+	 * <p>Internally forks the current JS Core Simulation.</p>
+	 * <p>The forked simulation starts with a copy of the global object of the current 
+	 * one and of all the objects reachable from it, including the built-in constructors 
+	 * and prototypes and the members the application has added to them, so that it needs 
+	 * no initialization. The two simulations share no mutable objects. Only primitive 
+	 * values, member layouts and the code of the built-in functions are shared.</p>
+	 * <p>The current simulation must not be modified while it is being forked.</p>
+	 * @return A new JS Core Simulation forked from the current one.
+	 * @see Context#fork()
+	 * @since 1.0
+	 * 
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	public final Core fork() {
+		return fork(new IdentityHashMap<Object, Object>(copied));
+	}
+
+	/**
+	 * <p>Internally forks the current JS Core Simulation, copying the objects it has created.</p>
+	 * @param copies A map to receive the copies of the objects of the current simulation, 
+	 * keyed by the original objects. On entry, it may contain extra objects of the current 
+	 * simulation, mapped to <tt>null</tt>, to be copied together with the global object.
+	 * @return The forked JS Core Simulation.
+	 * @see #fork()
+	 * @see Context#fork()
+	 * @since 1.0
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> method. 
+	 */
+	@Override
+	protected Core fork(Map<Object, Object> copies) {
+		Core ret = new Core();
+		ret.g = new CoreFork(this, copies).global((JscGlobal)core());
+		copied = copies.size();
+		return ret;
+	}
+
+	private int copied;
+
 	/**
 	 * <p>Internally constructs a JS Core Simulation.</p>
 	 * @since 1.0
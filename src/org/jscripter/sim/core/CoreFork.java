@@ -0,0 +1,131 @@
+
+/*
+ *  JScripter Simulation 1.0 - For Java To Script
+ *  Copyright (C) 2008-2011  J.J.Liu<jianjunliu@126.com> <http://www.jscripter.org>
+ *  
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Affero General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *  
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Affero General Public License for more details.
+ *  
+ *  You should have received a copy of the GNU Affero General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.jscripter.sim.core;
+
+import java.util.ArrayList;
+import java.util.Map;
+
+import js.ArrayLike;
+import js.ObjectLike;
+import js.core.JsObject;
+
+final class CoreFork
+{
+	private final Core core;
+	private final Map<Object, Object> copies;
+	private final ArrayList<JscObject> objects = new ArrayList<JscObject>();
+
+	CoreFork(Core core, Map<Object, Object> copies) {
+		this.core = core;
+		this.copies = copies;
+	}
+
+	final JscGlobal global(JscGlobal g) {
+		Object[] roots = copies.keySet().toArray();
+		JscGlobal ret = new JscGlobal(shell((JscObject)g.var()));
+		copies.put(g, ret);
+		for (Object r : roots) {
+			Object c = copy(r);
+			if (c != r) {
+				copies.put(r, c);
+			} else {
+				copies.remove(r);
+			}
+		}
+		for (int i = 0; i < objects.size(); i++) {
+			JscObject o = objects.get(i);
+			ObjectLike like = o.likeObject();
+			if (like instanceof JsObject) {
+				copy(like);
+			} else if (like != null) {
+				for (Object v : core.values(like)) {
+					copy(v);
+				}
+			}
+			Object v = o.like();
+			if (v instanceof ArrayLike<?>) {
+				ArrayLike<?> a = (ArrayLike<?>)v;
+				for (int j = 0, len = a.length(); j < len; j++) {
+					copy(a.get(j));
+				}
+			}
+		}
+		for (JscObject o : objects) {
+			ObjectLike like = o.likeObject();
+			((JscObject)copies.get(o)).init(
+					core.copy(o.like(), copies),
+					(ObjectLike)(like instanceof JsObject ?
+							copies.get(like) : core.copy(like, copies))
+			);
+		}
+		return ret;
+	}
+
+	private final JscObject shell(JscObject o) {
+		JscObject ret = (JscObject)copies.get(o);
+		if (ret == null) {
+			ret = new JscObject(null, null);
+			copies.put(o, ret);
+			objects.add(o);
+		}
+		return ret;
+	}
+
+	private final Object copy(Object o) {
+		if (!(o instanceof JsObject)) {
+			return o;
+		}
+		Object ret = copies.get(o);
+		if (ret != null) {
+			return ret;
+		}
+		JsObject n = ((JsObject)o).var();
+		if (n == null) {
+			return o;
+		} else if (n != o) {
+			ret = copy(n);
+		} else if (n instanceof JscObject) {
+			return shell((JscObject)n);
+		} else if (n instanceof Unwrappable<?>) {
+			JscObject u = shell((JscObject)((Unwrappable<?>)n).unwrap());
+			if (n instanceof JscFunction<?>) {
+				ret = new JscFunction<Object>(u);
+			} else if (n instanceof JscArray) {
+				ret = new JscArray(u);
+			} else if (n instanceof JscBoolean) {
+				ret = new JscBoolean(u);
+			} else if (n instanceof JscDate) {
+				ret = new JscDate(u);
+			} else if (n instanceof JscNumber) {
+				ret = new JscNumber(u);
+			} else if (n instanceof JscRegExp) {
+				ret = new JscRegExp(u);
+			} else if (n instanceof JscString) {
+				ret = new JscString(u);
+			} else {
+				ret = u;
+			}
+		} else {
+			return o;
+		}
+		copies.put(o, ret);
+		return ret;
+	}
+}
@@ -32,202 +32,198 @@ final class CoreMath extends JscObject
 		super(Js.object());
 	}
 
-	private static CoreMath singleton;
-
-	public final static synchronized CoreMath get() {
-		if (singleton == null) {
-			singleton = new CoreMath();
-			JsObject.constructor.with(singleton, JsGlobal.Object);
-			ObjectLike o = singleton.likeObject();
-			o.var(JsGlobal.Math.E       .mid(), MathLike.E      );
-			o.var(JsGlobal.Math.LN2     .mid(), MathLike.LN2    );
-			o.var(JsGlobal.Math.LN10    .mid(), MathLike.LN10   );
-			o.var(JsGlobal.Math.LOG2E   .mid(), MathLike.LOG2E  );
-			o.var(JsGlobal.Math.LOG10E  .mid(), MathLike.LOG10E );
-			o.var(JsGlobal.Math.PI      .mid(), MathLike.PI     );
-			o.var(JsGlobal.Math.SQRT1_2 .mid(), MathLike.SQRT1_2);
-			o.var(JsGlobal.Math.SQRT2   .mid(), MathLike.SQRT2  );
-			o.var(
-					JsGlobal.Math.abs.mid(),
-					new Function<Number>() {
-						@Override
-						protected Number function(Object jsthis, Call<Number> callee) {
-							return Js.math().abs(callee.arguments.get(0));
-						}
-					}.var()
-			);
-			o.var(
-					JsGlobal.Math.acos.mid(),
-					new Function<Number>() {
-						@Override
-						protected Number function(Object jsthis, Call<Number> callee) {
-							return Js.math().acos(callee.arguments.get(0));
-						}
-					}.var()
-			);
-			o.var(
-					JsGlobal.Math.asin.mid(),
-					new Function<Number>() {
-						@Override
-						protected Number function(Object jsthis, Call<Number> callee) {
-							return Js.math().asin(callee.arguments.get(0));
-						}
-					}.var()
-			);
-			o.var(
-					JsGlobal.Math.atan.mid(),
-					new Function<Number>() {
-						@Override
-						protected Number function(Object jsthis, Call<Number> callee) {
-							return Js.math().atan(callee.arguments.get(0));
-						}
-					}.var()
-			);
-			o.var(
-					JsGlobal.Math.atan2.mid(),
-					new Function<Number>() {
-						@Override
-						protected Number function(Object jsthis, Call<Number> callee) {
-							return Js.math().atan2(callee.arguments.get(0), callee.arguments.get(1));
-						}
-					}.var()
-			);
-			o.var(
-					JsGlobal.Math.ceil.mid(),
-					new Function<Number>() {
-						@Override
-						protected Number function(Object jsthis, Call<Number> callee) {
-							return Js.math().ceil(callee.arguments.get(0));
-						}
-					}.var()
-			);
-			o.var(
-					JsGlobal.Math.cos.mid(),
-					new Function<Number>() {
-						@Override
-						protected Number function(Object jsthis, Call<Number> callee) {
-							return Js.math().cos(callee.arguments.get(0));
-						}
-					}.var()
-			);
-			o.var(
-					JsGlobal.Math.exp.mid(),
-					new Function<Number>() {
-						@Override
-						protected Number function(Object jsthis, Call<Number> callee) {
-							return Js.math().exp(callee.arguments.get(0));
-						}
-					}.var()
-			);
-			o.var(
-					JsGlobal.Math.floor.mid(),
-					new Function<Number>() {
-						@Override
-						protected Number function(Object jsthis, Call<Number> callee) {
-							return Js.math().floor(callee.arguments.get(0));
-						}
-					}.var()
-			);
-			o.var(
-					JsGlobal.Math.log.mid(),
-					new Function<Number>() {
-						@Override
-						protected Number function(Object jsthis, Call<Number> callee) {
-							return Js.math().log(callee.arguments.get(0));
-						}
-					}.var()
-			);
-			o.var(
-					JsGlobal.Math.max.mid(),
-					new Function<Number>() {
-						@Override
-						protected Number function(Object jsthis, Call<Number> callee) {
-							return Js.math().max(callee.arguments.var());
-						}
-					}.var()
-			);
-			o.var(
-					JsGlobal.Math.min.mid(),
-					new Function<Number>() {
-						@Override
-						protected Number function(Object jsthis, Call<Number> callee) {
-							return Js.math().min(callee.arguments.var());
-						}
-					}.var()
-			);
-			o.var(
-					JsGlobal.Math.pow.mid(),
-					new Function<Number>() {
-						@Override
-						protected Number function(Object jsthis, Call<Number> callee) {
-							return Js.math().pow(callee.arguments.get(0), callee.arguments.get(1));
-						}
-					}.var()
-			);
-			o.var(
-					JsGlobal.Math.random.mid(),
-					new Function<Number>() {
-						@Override
-						protected Number function(Object jsthis, Call<Number> callee) {
-							return Js.math().random();
-						}
-					}.var()
-			);
-			o.var(
-					JsGlobal.Math.round.mid(),
-					new Function<Number>() {
-						@Override
-						protected Number function(Object jsthis, Call<Number> callee) {
-							return Js.math().round(callee.arguments.get(0));
-						}
-					}.var()
-			);
-			o.var(
-					JsGlobal.Math.sin.mid(),
-					new Function<Number>() {
-						@Override
-						protected Number function(Object jsthis, Call<Number> callee) {
-							return Js.math().sin(callee.arguments.get(0));
-						}
-					}.var()
-			);
-			o.var(
-					JsGlobal.Math.sinh.mid(),
-					new Function<Number>() {
-						@Override
-						protected Number function(Object jsthis, Call<Number> callee) {
-							return Js.math().sinh(callee.arguments.get(0));
-						}
-					}.var()
-			);
-			o.var(
-					JsGlobal.Math.sqrt.mid(),
-					new Function<Number>() {
-						@Override
-						protected Number function(Object jsthis, Call<Number> callee) {
-							return Js.math().sqrt(callee.arguments.get(0));
-						}
-					}.var()
-			);
-			o.var(
-					JsGlobal.Math.tan.mid(),
-					new Function<Number>() {
-						@Override
-						protected Number function(Object jsthis, Call<Number> callee) {
-							return Js.math().tan(callee.arguments.get(0));
-						}
-					}.var()
-			);
-			o.var(
-					JsGlobal.Math.tanh.mid(),
-					new Function<Number>() {
-						@Override
-						protected Number function(Object jsthis, Call<Number> callee) {
-							return Js.math().tanh(callee.arguments.get(0));
-						}
-					}.var()
-			);
-		}
-		return singleton;
+	static final CoreMath newInstance() {
+		CoreMath ret = new CoreMath();
+		JsObject.constructor.with(ret, JsGlobal.Object);
+		ObjectLike o = ret.likeObject();
+		o.var(JsGlobal.Math.E       .mid(), MathLike.E      );
+		o.var(JsGlobal.Math.LN2     .mid(), MathLike.LN2    );
+		o.var(JsGlobal.Math.LN10    .mid(), MathLike.LN10   );
+		o.var(JsGlobal.Math.LOG2E   .mid(), MathLike.LOG2E  );
+		o.var(JsGlobal.Math.LOG10E  .mid(), MathLike.LOG10E );
+		o.var(JsGlobal.Math.PI      .mid(), MathLike.PI     );
+		o.var(JsGlobal.Math.SQRT1_2 .mid(), MathLike.SQRT1_2);
+		o.var(JsGlobal.Math.SQRT2   .mid(), MathLike.SQRT2  );
+		o.var(
+				JsGlobal.Math.abs.mid(),
+				new Function<Number>() {
+					@Override
+					protected Number function(Object jsthis, Call<Number> callee) {
+						return Js.math().abs(callee.arguments.get(0));
+					}
+				}.var()
+		);
+		o.var(
+				JsGlobal.Math.acos.mid(),
+				new Function<Number>() {
+					@Override
+					protected Number function(Object jsthis, Call<Number> callee) {
+						return Js.math().acos(callee.arguments.get(0));
+					}
+				}.var()
+		);
+		o.var(
+				JsGlobal.Math.asin.mid(),
+				new Function<Number>() {
+					@Override
+					protected Number function(Object jsthis, Call<Number> callee) {
+						return Js.math().asin(callee.arguments.get(0));
+					}
+				}.var()
+		);
+		o.var(
+				JsGlobal.Math.atan.mid(),
+				new Function<Number>() {
+					@Override
+					protected Number function(Object jsthis, Call<Number> callee) {
+						return Js.math().atan(callee.arguments.get(0));
+					}
+				}.var()
+		);
+		o.var(
+				JsGlobal.Math.atan2.mid(),
+				new Function<Number>() {
+					@Override
+					protected Number function(Object jsthis, Call<Number> callee) {
+						return Js.math().atan2(callee.arguments.get(0), callee.arguments.get(1));
+					}
+				}.var()
+		);
+		o.var(
+				JsGlobal.Math.ceil.mid(),
+				new Function<Number>() {
+					@Override
+					protected Number function(Object jsthis, Call<Number> callee) {
+						return Js.math().ceil(callee.arguments.get(0));
+					}
+				}.var()
+		);
+		o.var(
+				JsGlobal.Math.cos.mid(),
+				new Function<Number>() {
+					@Override
+					protected Number function(Object jsthis, Call<Number> callee) {
+						return Js.math().cos(callee.arguments.get(0));
+					}
+				}.var()
+		);
+		o.var(
+				JsGlobal.Math.exp.mid(),
+				new Function<Number>() {
+					@Override
+					protected Number function(Object jsthis, Call<Number> callee) {
+						return Js.math().exp(callee.arguments.get(0));
+					}
+				}.var()
+		);
+		o.var(
+				JsGlobal.Math.floor.mid(),
+				new Function<Number>() {
+					@Override
+					protected Number function(Object jsthis, Call<Number> callee) {
+						return Js.math().floor(callee.arguments.get(0));
+					}
+				}.var()
+		);
+		o.var(
+				JsGlobal.Math.log.mid(),
+				new Function<Number>() {
+					@Override
+					protected Number function(Object jsthis, Call<Number> callee) {
+						return Js.math().log(callee.arguments.get(0));
+					}
+				}.var()
+		);
+		o.var(
+				JsGlobal.Math.max.mid(),
+				new Function<Number>() {
+					@Override
+					protected Number function(Object jsthis, Call<Number> callee) {
+						return Js.math().max(callee.arguments.var());
+					}
+				}.var()
+		);
+		o.var(
+				JsGlobal.Math.min.mid(),
+				new Function<Number>() {
+					@Override
+					protected Number function(Object jsthis, Call<Number> callee) {
+						return Js.math().min(callee.arguments.var());
+					}
+				}.var()
+		);
+		o.var(
+				JsGlobal.Math.pow.mid(),
+				new Function<Number>() {
+					@Override
+					protected Number function(Object jsthis, Call<Number> callee) {
+						return Js.math().pow(callee.arguments.get(0), callee.arguments.get(1));
+					}
+				}.var()
+		);
+		o.var(
+				JsGlobal.Math.random.mid(),
+				new Function<Number>() {
+					@Override
+					protected Number function(Object jsthis, Call<Number> callee) {
+						return Js.math().random();
+					}
+				}.var()
+		);
+		o.var(
+				JsGlobal.Math.round.mid(),
+				new Function<Number>() {
+					@Override
+					protected Number function(Object jsthis, Call<Number> callee) {
+						return Js.math().round(callee.arguments.get(0));
+					}
+				}.var()
+		);
+		o.var(
+				JsGlobal.Math.sin.mid(),
+				new Function<Number>() {
+					@Override
+					protected Number function(Object jsthis, Call<Number> callee) {
+						return Js.math().sin(callee.arguments.get(0));
+					}
+				}.var()
+		);
+		o.var(
+				JsGlobal.Math.sinh.mid(),
+				new Function<Number>() {
+					@Override
+					protected Number function(Object jsthis, Call<Number> callee) {
+						return Js.math().sinh(callee.arguments.get(0));
+					}
+				}.var()
+		);
+		o.var(
+				JsGlobal.Math.sqrt.mid(),
+				new Function<Number>() {
+					@Override
+					protected Number function(Object jsthis, Call<Number> callee) {
+						return Js.math().sqrt(callee.arguments.get(0));
+					}
+				}.var()
+		);
+		o.var(
+				JsGlobal.Math.tan.mid(),
+				new Function<Number>() {
+					@Override
+					protected Number function(Object jsthis, Call<Number> callee) {
+						return Js.math().tan(callee.arguments.get(0));
+					}
+				}.var()
+		);
+		o.var(
+				JsGlobal.Math.tanh.mid(),
+				new Function<Number>() {
+					@Override
+					protected Number function(Object jsthis, Call<Number> callee) {
+						return Js.math().tanh(callee.arguments.get(0));
+					}
+				}.var()
+		);
+		return ret;
 	}
 }
@@ -42,8 +42,9 @@ final class CreatorArray extends CoreFunction<JsArray>
 	@Override
 	protected final JsArray construct(Object o) {
 		JsArray ret = (JsArray)o;
-		JsObject.constructor.with(ret, var());
-		JsFunction.prototype.with(ret, JsFunction.prototype.with(var()));
+		JsFunction<?> f = JsGlobal.Array.with().var();
+		JsObject.constructor.with(ret, f);
+		JsFunction.prototype.with(ret, JsFunction.prototype.with(f));
 		return ret;
 	}
 	@Override
@@ -59,150 +60,146 @@ final class CreatorArray extends CoreFunction<JsArray>
 		return (JsArray)invoke(args);
 	}
 
-	private static CreatorArray singleton;
-
-	public final static synchronized CreatorArray get() {
-		if (singleton == null) {
-			singleton = new CreatorArray();
-			JsObject p = JsFunction.prototype.with(singleton.var());
-			p.var(
-					JsArray.concat,
-					new CoreFunction<JsArray>(JsArray.concat.toString()) {
-						@Override
-						protected JsArray function(Object jsthis, Call<JsArray> callee) {
-							return JsGlobal.Array.with().create(
-									((ArrayLike<?>)like(jsthis)).concat(
-											callee.arguments.var()
-									)
-							);
-						}
+	static final CreatorArray newInstance() {
+		CreatorArray ret = new CreatorArray();
+		JsObject p = JsFunction.prototype.with(ret.var());
+		p.var(
+				JsArray.concat,
+				new CoreFunction<JsArray>(JsArray.concat.toString()) {
+					@Override
+					protected JsArray function(Object jsthis, Call<JsArray> callee) {
+						return JsGlobal.Array.with().create(
+								((ArrayLike<?>)like(jsthis)).concat(
+										callee.arguments.var()
+								)
+						);
 					}
-			);
-			p.var(
-					JsArray.join,
-					new CoreFunction<String>(JsArray.join.toString()) {
-						@Override
-						protected String function(Object jsthis, Call<String> callee) {
-							return callee.arguments.length() < 1 ?
-									((ArrayLike<?>)like(jsthis)).join() :
-									((ArrayLike<?>)like(jsthis)).join(
-											callee.arguments.get(0)
-									);
-						}
+				}
+		);
+		p.var(
+				JsArray.join,
+				new CoreFunction<String>(JsArray.join.toString()) {
+					@Override
+					protected String function(Object jsthis, Call<String> callee) {
+						return callee.arguments.length() < 1 ?
+								((ArrayLike<?>)like(jsthis)).join() :
+								((ArrayLike<?>)like(jsthis)).join(
+										callee.arguments.get(0)
+								);
 					}
-			);
-			p.var(
-					JsArray.pop,
-					new CoreFunction<Object>(JsArray.pop.toString()) {
-						@Override
-						protected Object function(Object jsthis, Call<Object> callee) {
-							return ((ArrayLike<?>)like(jsthis)).pop();
-						}
+				}
+		);
+		p.var(
+				JsArray.pop,
+				new CoreFunction<Object>(JsArray.pop.toString()) {
+					@Override
+					protected Object function(Object jsthis, Call<Object> callee) {
+						return ((ArrayLike<?>)like(jsthis)).pop();
 					}
-			);
-			p.var(
-					JsArray.push,
-					new CoreFunction<Integer>(JsArray.push.toString()) {
-						@SuppressWarnings("unchecked")
-						@Override
-						protected Integer function(Object jsthis, Call<Integer> callee) {
-							return ((ArrayLike<Object>)like(jsthis)).push(
-									callee.arguments.var()
-							);
-						}
+				}
+		);
+		p.var(
+				JsArray.push,
+				new CoreFunction<Integer>(JsArray.push.toString()) {
+					@SuppressWarnings("unchecked")
+					@Override
+					protected Integer function(Object jsthis, Call<Integer> callee) {
+						return ((ArrayLike<Object>)like(jsthis)).push(
+								callee.arguments.var()
+						);
 					}
-			);
-			p.var(
-					JsArray.reverse,
-					new CoreFunction<Void>(JsArray.reverse.toString()) {
-						@Override
-						protected Void function(Object jsthis, Call<Void> callee) {
-							((ArrayLike<?>)like(jsthis)).reverse();
-							return (Void)null;
-						}
+				}
+		);
+		p.var(
+				JsArray.reverse,
+				new CoreFunction<Void>(JsArray.reverse.toString()) {
+					@Override
+					protected Void function(Object jsthis, Call<Void> callee) {
+						((ArrayLike<?>)like(jsthis)).reverse();
+						return (Void)null;
 					}
-			);
-			p.var(
-					JsArray.shift,
-					new CoreFunction<Object>(JsArray.shift.toString()) {
-						@Override
-						protected Object function(Object jsthis, Call<Object> callee) {
-							return ((ArrayLike<?>)like(jsthis)).shift();
-						}
+				}
+		);
+		p.var(
+				JsArray.shift,
+				new CoreFunction<Object>(JsArray.shift.toString()) {
+					@Override
+					protected Object function(Object jsthis, Call<Object> callee) {
+						return ((ArrayLike<?>)like(jsthis)).shift();
 					}
-			);
-			p.var(
-					JsArray.slice,
-					new CoreFunction<JsArray>(JsArray.slice.toString()) {
-						@Override
-						protected JsArray function(Object jsthis, Call<JsArray> callee) {
-							return JsGlobal.Array.with().create(
-									((ArrayLike<?>)like(jsthis)).slice(
-											callee.arguments.var()
-									)
-							);
-						}
+				}
+		);
+		p.var(
+				JsArray.slice,
+				new CoreFunction<JsArray>(JsArray.slice.toString()) {
+					@Override
+					protected JsArray function(Object jsthis, Call<JsArray> callee) {
+						return JsGlobal.Array.with().create(
+								((ArrayLike<?>)like(jsthis)).slice(
+										callee.arguments.var()
+								)
+						);
 					}
-			);
-			p.var(
-					JsArray.sort,
-					new CoreFunction<Object>(JsArray.sort.toString()) {
-						@SuppressWarnings("unchecked")
-						@Override
-						protected Object function(Object jsthis, Call<Object> callee) {
-							return callee.arguments.length() < 1 ?
-									((ArrayLike<?>)like(jsthis)).sort() :
-									((ArrayLike<?>)like(jsthis)).sort(
-											(JsFunction<? extends Number>)like(
-													callee.arguments.get(0)
-											)
-									);
-						}
+				}
+		);
+		p.var(
+				JsArray.sort,
+				new CoreFunction<Object>(JsArray.sort.toString()) {
+					@SuppressWarnings("unchecked")
+					@Override
+					protected Object function(Object jsthis, Call<Object> callee) {
+						return callee.arguments.length() < 1 ?
+								((ArrayLike<?>)like(jsthis)).sort() :
+								((ArrayLike<?>)like(jsthis)).sort(
+										(JsFunction<? extends Number>)like(
+												callee.arguments.get(0)
+										)
+								);
 					}
-			);
-			p.var(
-					JsArray.splice,
-					new CoreFunction<JsArray>(JsArray.splice.toString()) {
-						@Override
-						protected JsArray function(Object jsthis, Call<JsArray> callee) {
-							return JsGlobal.Array.with().create(
-									((ArrayLike<?>)like(jsthis)).splice(
-											callee.arguments.var()
-									)
-							);
-						}
+				}
+		);
+		p.var(
+				JsArray.splice,
+				new CoreFunction<JsArray>(JsArray.splice.toString()) {
+					@Override
+					protected JsArray function(Object jsthis, Call<JsArray> callee) {
+						return JsGlobal.Array.with().create(
+								((ArrayLike<?>)like(jsthis)).splice(
+										callee.arguments.var()
+								)
+						);
 					}
-			);
-			p.var(
-					JsArray.unshift,
-					new CoreFunction<Integer>(JsArray.unshift.toString()) {
-						@Override
-						protected Integer function(Object jsthis, Call<Integer> callee) {
-							return ((ArrayLike<?>)like(jsthis)).unshift(
-									callee.arguments.var()
-							);
-						}
+				}
+		);
+		p.var(
+				JsArray.unshift,
+				new CoreFunction<Integer>(JsArray.unshift.toString()) {
+					@Override
+					protected Integer function(Object jsthis, Call<Integer> callee) {
+						return ((ArrayLike<?>)like(jsthis)).unshift(
+								callee.arguments.var()
+						);
 					}
-			);
-			p.var(
-					JsArray.toString,
-					new CoreFunction<String>(JsArray.toString.toString()) {
-						@Override
-						protected String function(Object jsthis, Call<String> callee) {
-							return Js.toString(like(jsthis));
-						}
+				}
+		);
+		p.var(
+				JsArray.toString,
+				new CoreFunction<String>(JsArray.toString.toString()) {
+					@Override
+					protected String function(Object jsthis, Call<String> callee) {
+						return Js.toString(like(jsthis));
 					}
-			);
-			p.var(
-					JsObject.valueOf,
-					new CoreFunction<JsArray>(JsArray.valueOf.toString()) {
-						@Override
-						protected JsArray function(Object jsthis, Call<JsArray> callee) {
-							return JsGlobal.Array.with().create((ArrayLike<?>)like(jsthis));
-						}
+				}
+		);
+		p.var(
+				JsObject.valueOf,
+				new CoreFunction<JsArray>(JsArray.valueOf.toString()) {
+					@Override
+					protected JsArray function(Object jsthis, Call<JsArray> callee) {
+						return JsGlobal.Array.with().create((ArrayLike<?>)like(jsthis));
 					}
-			);
-		}
-		return singleton;
+				}
+		);
+		return ret;
 	}
 }
@@ -37,6 +37,14 @@ final class CreatorBoolean extends CoreFunction<Boolean>
 		return Js.be(callee.arguments.get(0));
 	}
 	@Override
+	protected final JsObject construct(Object o) {
+		JsObject ret = (JsObject)o;
+		JsFunction<?> f = JsGlobal.Boolean.with().var();
+		JsObject.constructor.with(ret, f);
+		JsFunction.prototype.with(ret, JsFunction.prototype.with(f));
+		return ret;
+	}
+	@Override
 	public final JsBoolean create() {
 		return (JsBoolean)construct(new JscBoolean(invoke()));
 	}
@@ -49,31 +57,27 @@ final class CreatorBoolean extends CoreFunction<Boolean>
 		return (JsBoolean)construct(new JscBoolean(invoke(args)));
 	}
 
-	private static CreatorBoolean singleton;
-
-	public final static synchronized CreatorBoolean get() {
-		if (singleton == null) {
-			singleton = new CreatorBoolean();
-			JsObject p = JsFunction.prototype.with(singleton.var());
-			p.var(
-					JsBoolean.toString,
-					new CoreFunction<String>(JsBoolean.toString.toString()) {
-						@Override
-						protected String function(Object jsthis, Call<String> callee) {
-							return Js.toString(like(jsthis));
-						}
+	static final CreatorBoolean newInstance() {
+		CreatorBoolean ret = new CreatorBoolean();
+		JsObject p = JsFunction.prototype.with(ret.var());
+		p.var(
+				JsBoolean.toString,
+				new CoreFunction<String>(JsBoolean.toString.toString()) {
+					@Override
+					protected String function(Object jsthis, Call<String> callee) {
+						return Js.toString(like(jsthis));
 					}
-			);
-			p.var(
-					JsBoolean.valueOf,
-					new CoreFunction<Boolean>(JsBoolean.valueOf.toString()) {
-						@Override
-						protected Boolean function(Object jsthis, Call<Boolean> callee) {
-							return (Boolean)like(jsthis);
-						}
+				}
+		);
+		p.var(
+				JsBoolean.valueOf,
+				new CoreFunction<Boolean>(JsBoolean.valueOf.toString()) {
+					@Override
+					protected Boolean function(Object jsthis, Call<Boolean> callee) {
+						return (Boolean)like(jsthis);
 					}
-			);
-		}
-		return singleton;
+				}
+		);
+		return ret;
 	}
 }
@@ -51,12 +51,8 @@ final class CreatorFunction extends CoreFunction<JsFunction<?>>
 		throw new UnsupportedOperationException();
 	}
 
-	private static CreatorFunction singleton;
-
-	public final static synchronized CreatorFunction get() {
-		if (singleton == null) {
-			singleton = new CreatorFunction();
-		}
-		return singleton;
+	static final CreatorFunction newInstance() {
+		CreatorFunction ret = new CreatorFunction();
+		return ret;
 	}
 }
@@ -43,6 +43,14 @@ final class CreatorNumber extends CoreFunction<Number>
 		       Js.be(a0) ? 1 : 0;
 	}
 	@Override
+	protected final JsObject construct(Object o) {
+		JsObject ret = (JsObject)o;
+		JsFunction<?> f = JsGlobal.Number.with().var();
+		JsObject.constructor.with(ret, f);
+		JsFunction.prototype.with(ret, JsFunction.prototype.with(f));
+		return ret;
+	}
+	@Override
 	public JsNumber create() {
 		return (JsNumber)construct(new JscNumber(Core.get().numberLike(invoke())));
 	}
@@ -55,70 +63,66 @@ final class CreatorNumber extends CoreFunction<Number>
 		return (JsNumber)construct(new JscNumber(Core.get().numberLike(invoke(args))));
 	}
 
-	private static CreatorNumber singleton;
-
-	public final static synchronized CreatorNumber get() {
-		if (singleton == null) {
-			singleton = new CreatorNumber();
-			JsObject p = JsFunction.prototype.with(singleton.var());
-			p.var(
-					JsNumber.toExponential,
-					new CoreFunction<String>(JsNumber.toExponential.toString()) {
-						@Override
-						protected String function(Object jsthis, Call<String> callee) {
-							return callee.arguments.length() < 1 ?
-									((NumberLike<?>)like(jsthis)).toExponential():
-									((NumberLike<?>)like(jsthis)).toExponential(
-											callee.arguments.get(0)
-									);
-						}
+	static final CreatorNumber newInstance() {
+		CreatorNumber ret = new CreatorNumber();
+		JsObject p = JsFunction.prototype.with(ret.var());
+		p.var(
+				JsNumber.toExponential,
+				new CoreFunction<String>(JsNumber.toExponential.toString()) {
+					@Override
+					protected String function(Object jsthis, Call<String> callee) {
+						return callee.arguments.length() < 1 ?
+								((NumberLike<?>)like(jsthis)).toExponential():
+								((NumberLike<?>)like(jsthis)).toExponential(
+										callee.arguments.get(0)
+								);
 					}
-			);
-			p.var(
-					JsNumber.toFixed,
-					new CoreFunction<String>(JsNumber.toFixed.toString()) {
-						@Override
-						protected String function(Object jsthis, Call<String> callee) {
-							return callee.arguments.length() < 1 ?
-									((NumberLike<?>)like(jsthis)).toFixed():
-									((NumberLike<?>)like(jsthis)).toFixed(
-											callee.arguments.get(0)
-									);
-						}
+				}
+		);
+		p.var(
+				JsNumber.toFixed,
+				new CoreFunction<String>(JsNumber.toFixed.toString()) {
+					@Override
+					protected String function(Object jsthis, Call<String> callee) {
+						return callee.arguments.length() < 1 ?
+								((NumberLike<?>)like(jsthis)).toFixed():
+								((NumberLike<?>)like(jsthis)).toFixed(
+										callee.arguments.get(0)
+								);
 					}
-			);
-			p.var(
-					JsNumber.toPrecision,
-					new CoreFunction<String>(JsNumber.toPrecision.toString()) {
-						@Override
-						protected String function(Object jsthis, Call<String> callee) {
-							return callee.arguments.length() < 1 ?
-									((NumberLike<?>)like(jsthis)).toPrecision():
-									((NumberLike<?>)like(jsthis)).toPrecision(
-											callee.arguments.get(0)
-									);
-						}
+				}
+		);
+		p.var(
+				JsNumber.toPrecision,
+				new CoreFunction<String>(JsNumber.toPrecision.toString()) {
+					@Override
+					protected String function(Object jsthis, Call<String> callee) {
+						return callee.arguments.length() < 1 ?
+								((NumberLike<?>)like(jsthis)).toPrecision():
+								((NumberLike<?>)like(jsthis)).toPrecision(
+										callee.arguments.get(0)
+								);
 					}
-			);
-			p.var(
-					JsNumber.toString,
-					new CoreFunction<String>(JsNumber.toString.toString()) {
-						@Override
-						protected String function(Object jsthis, Call<String> callee) {
-							return Js.toString(like(jsthis));
-						}
+				}
+		);
+		p.var(
+				JsNumber.toString,
+				new CoreFunction<String>(JsNumber.toString.toString()) {
+					@Override
+					protected String function(Object jsthis, Call<String> callee) {
+						return Js.toString(like(jsthis));
 					}
-			);
-			p.var(
-					JsNumber.valueOf,
-					new CoreFunction<Number>(JsNumber.valueOf.toString()) {
-						@Override
-						protected Number function(Object jsthis, Call<Number> callee) {
-							return ((NumberLike<?>)like(jsthis)).valueOf();
-						}
+				}
+		);
+		p.var(
+				JsNumber.valueOf,
+				new CoreFunction<Number>(JsNumber.valueOf.toString()) {
+					@Override
+					protected Number function(Object jsthis, Call<Number> callee) {
+						return ((NumberLike<?>)like(jsthis)).valueOf();
 					}
-			);
-		}
-		return singleton;
+				}
+		);
+		return ret;
 	}
 }
@@ -42,8 +42,9 @@ final class CreatorObject extends CoreFunction<JsObject>
 	@Override
 	protected final JsObject construct(Object o) {
 		JsObject ret = (JsObject)o;
-		JsObject.constructor.with(ret, var());
-		JsFunction.prototype.with(ret, JsFunction.prototype.with(var()));
+		JsFunction<?> f = JsGlobal.Object.with().var();
+		JsObject.constructor.with(ret, f);
+		JsFunction.prototype.with(ret, JsFunction.prototype.with(f));
 		return ret;
 	}
 	@Override
@@ -81,12 +82,8 @@ final class CreatorObject extends CoreFunction<JsObject>
 				create(args.var().get(0)) : create();
 	}
 
-	private static CreatorObject singleton;
-
-	public final static synchronized CreatorObject get() {
-		if (singleton == null) {
-			singleton = new CreatorObject();
-		}
-		return singleton;
+	static final CreatorObject newInstance() {
+		CreatorObject ret = new CreatorObject();
+		return ret;
 	}
 }
@@ -49,8 +49,9 @@ final class CreatorRegExp extends CoreFunction<JsRegExp>
 	@Override
 	protected final JsRegExp construct(Object o) {
 		JsRegExp ret = (JsRegExp)o;
-		JsObject.constructor.with(ret, var());
-		JsFunction.prototype.with(ret, JsFunction.prototype.with(var()));
+		JsFunction<?> f = JsGlobal.RegExp.with().var();
+		JsObject.constructor.with(ret, f);
+		JsFunction.prototype.with(ret, JsFunction.prototype.with(f));
 		return ret;
 	}
 	@Override
@@ -66,57 +67,53 @@ final class CreatorRegExp extends CoreFunction<JsRegExp>
 		return invoke(args);
 	}
 
-	private static CreatorRegExp singleton;
-
-	public final static synchronized CreatorRegExp get() {
-		if (singleton == null) {
-			singleton = new CreatorRegExp();
-			JsObject p = JsFunction.prototype.with(singleton.var());
-			p.var(
-					JsRegExp.exec,
-					new CoreFunction<JsArray>(JsRegExp.exec.toString()) {
-						@Override
-						protected JsArray function(Object jsthis, Call<JsArray> callee) {
-							return jsthis instanceof RegExpLike ?
-							       new JscArray(
-							      		((RegExpLike)jsthis).exec(callee.arguments.get(0))
-					               ) :
-							       new JscArray(
-							       		((RegExpLike)((Var<?>)jsthis).var()).exec(callee.arguments.get(0))
-							       );
-						}
+	static final CreatorRegExp newInstance() {
+		CreatorRegExp ret = new CreatorRegExp();
+		JsObject p = JsFunction.prototype.with(ret.var());
+		p.var(
+				JsRegExp.exec,
+				new CoreFunction<JsArray>(JsRegExp.exec.toString()) {
+					@Override
+					protected JsArray function(Object jsthis, Call<JsArray> callee) {
+						return jsthis instanceof RegExpLike ?
+						       new JscArray(
+						      		((RegExpLike)jsthis).exec(callee.arguments.get(0))
+				               ) :
+						       new JscArray(
+						       		((RegExpLike)((Var<?>)jsthis).var()).exec(callee.arguments.get(0))
+						       );
 					}
-			);
-			p.var(
-					JsRegExp.test,
-					new CoreFunction<Boolean>(JsRegExp.test.toString()) {
-						@Override
-						protected Boolean function(Object jsthis, Call<Boolean> callee) {
-							return jsthis instanceof RegExpLike ?
-							       ((RegExpLike)jsthis).test(callee.arguments.get(0)) :
-							       ((RegExpLike)((Var<?>)jsthis).var()).test(callee.arguments.get(0));
-						}
+				}
+		);
+		p.var(
+				JsRegExp.test,
+				new CoreFunction<Boolean>(JsRegExp.test.toString()) {
+					@Override
+					protected Boolean function(Object jsthis, Call<Boolean> callee) {
+						return jsthis instanceof RegExpLike ?
+						       ((RegExpLike)jsthis).test(callee.arguments.get(0)) :
+						       ((RegExpLike)((Var<?>)jsthis).var()).test(callee.arguments.get(0));
 					}
-			);
-			p.var(
-					JsRegExp.toString,
-					new CoreFunction<String>(JsRegExp.toString.toString()) {
-						@Override
-						protected String function(Object jsthis, Call<String> callee) {
-							return Js.toString(like(jsthis));
-						}
+				}
+		);
+		p.var(
+				JsRegExp.toString,
+				new CoreFunction<String>(JsRegExp.toString.toString()) {
+					@Override
+					protected String function(Object jsthis, Call<String> callee) {
+						return Js.toString(like(jsthis));
 					}
-			);
-			p.var(
-					JsRegExp.valueOf,
-					new CoreFunction<JsRegExp>(JsRegExp.valueOf.toString()) {
-						@Override
-						protected JsRegExp function(Object jsthis, Call<JsRegExp> callee) {
-							return new JscRegExp(((RegExpLike)like(jsthis)).valueOf());
-						}
+				}
+		);
+		p.var(
+				JsRegExp.valueOf,
+				new CoreFunction<JsRegExp>(JsRegExp.valueOf.toString()) {
+					@Override
+					protected JsRegExp function(Object jsthis, Call<JsRegExp> callee) {
+						return new JscRegExp(((RegExpLike)like(jsthis)).valueOf());
 					}
-			);
-		}
-		return singleton;
+				}
+		);
+		return ret;
 	}
 }
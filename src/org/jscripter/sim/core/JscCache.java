@@ -0,0 +1,128 @@
+
+/*
+ *  JScripter Simulation 1.0 - For Java To Script
+ *  Copyright (C) 2008-2011  J.J.Liu<jianjunliu@126.com> <http://www.jscripter.org>
+ *  
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Affero General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *  
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Affero General Public License for more details.
+ *  
+ *  You should have received a copy of the GNU Affero General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.jscripter.sim.core;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import js.Var.Mid;
+
+final class JscCache
+{
+	private static final int POLYMORPHIC = 4;
+
+	private final AtomicInteger epoch = new AtomicInteger();
+	private volatile Site[] sites = new Site[256];
+
+	final Site site(Mid mid) {
+		int i = mid.ordinal();
+		Site[] ss = sites;
+		Site s = i < ss.length ? ss[i] : null;
+		if (s == null) {
+			synchronized(this) {
+				ss = sites;
+				if (i >= ss.length) {
+					Site[] a = new Site[Math.max(i + 1, ss.length * 2)];
+					System.arraycopy(ss, 0, a, 0, ss.length);
+					ss = a;
+				}
+				s = ss[i];
+				if (s == null) {
+					s = new Site();
+					ss[i] = s;
+				}
+				sites = ss;
+			}
+		}
+		return s;
+	}
+
+	final int epoch() {
+		return epoch.get();
+	}
+
+	final void invalidate() {
+		epoch.incrementAndGet();
+	}
+
+	static final class Entry
+	{
+		final JscObject proto;
+		final JscObject holder;
+		final int epoch;
+
+		Entry(JscObject proto, JscObject holder, int epoch) {
+			this.proto = proto;
+			this.holder = holder;
+			this.epoch = epoch;
+		}
+	}
+
+	static final class Site
+	{
+		private volatile Entry[] entries;
+		private volatile int megamorphic;
+
+		private Site() {}
+
+		final boolean megamorphic(int e) {
+			return megamorphic == e + 1;
+		}
+
+		final Entry lookup(JscObject proto, int e) {
+			Entry[] es = entries;
+			if (es == null) {
+				return null;
+			}
+			for (int i = 0; i < es.length; i++) {
+				Entry entry = es[i];
+				if (entry.proto == proto && entry.epoch == e) {
+					return entry;
+				}
+			}
+			return null;
+		}
+
+		final synchronized void fill(JscObject proto, JscObject holder, int e) {
+			if (megamorphic == e + 1) {
+				return;
+			}
+			Entry[] es = entries;
+			int n = 0;
+			for (int i = 0; es != null && i < es.length; i++) {
+				if (es[i].epoch == e) {
+					n++;
+				}
+			}
+			if (n >= POLYMORPHIC) {
+				megamorphic = e + 1;
+				entries = null;
+				return;
+			}
+			Entry[] a = new Entry[n + 1];
+			for (int i = 0, j = 0; j < n; i++) {
+				if (es[i].epoch == e) {
+					a[j++] = es[i];
+				}
+			}
+			a[n] = new Entry(proto, holder, e);
+			entries = a;
+		}
+	}
+}
@@ -130,6 +130,10 @@ final class JscFunction<T> extends JsFunction<T> implements
 		return like().invoke(arg);
 	}
 	@Override
+	public final T invoke(Object arg0, Object arg1) {
+		return like().invoke(arg0, arg1);
+	}
+	@Override
 	public final T invoke(Vars<?> args) {
 		return like().invoke(args);
 	}
@@ -28,12 +28,16 @@ import js.core.JsObject;
 final class JscGlobal extends JsGlobal
 {
 	JscGlobal() {
-		super(new JscObject());
+		this(new JscObject());
+	}
+
+	JscGlobal(JscObject var) {
+		super(var);
 	}
 
 	void init() {
-		var(Object  , CreatorObject  .get());
-		var(Function, CreatorFunction.get());
+		var(Object  , CreatorObject  .newInstance());
+		var(Function, CreatorFunction.newInstance());
 		JsGlobal.Object go = JsGlobal.Object.with();
 		JsObject gop = new JscObject();
 		JsFunction.prototype.with(go, gop);
@@ -81,16 +85,17 @@ final class JscGlobal extends JsGlobal
 				new CoreFunction<JsFunction<?>>(JsFunction.valueOf.toString()) {
 					@Override
 					protected JsFunction<?> function(java.lang.Object jsthis, Call<JsFunction<?>> callee) {
-						return ((js.Function<?>)CoreFunction.like(jsthis)).valueOf();
+						return jsthis instanceof JsFunction<?> ? (JsFunction<?>)jsthis :
+						       ((js.Function<?>)CoreFunction.like(jsthis)).valueOf();
 					}
 				}
 		);
-		var(Array   , CreatorArray   .get());
-		var(Boolean , CreatorBoolean .get());
-		var(Date    , CreatorDate    .get());
-		var(Math    , CoreMath       .get());
-		var(Number  , CreatorNumber  .get());
-		var(RegExp  , CreatorRegExp  .get());
-		var(String  , CreatorString  .get());
+		var(Array   , CreatorArray   .newInstance());
+		var(Boolean , CreatorBoolean .newInstance());
+		var(Date    , CreatorDate    .newInstance());
+		var(Math    , CoreMath       .newInstance());
+		var(Number  , CreatorNumber  .newInstance());
+		var(RegExp  , CreatorRegExp  .newInstance());
+		var(String  , CreatorString  .newInstance());
 	}
 }
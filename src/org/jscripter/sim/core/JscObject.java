@@ -33,6 +33,7 @@ class JscObject extends JsObject implements
 	Iterable<JsObject.Mid>, Like<Object>, LikeObject, Unwrappable<JscObject>
 {
 	private ObjectLike objectLike;
+	private volatile boolean proto;
 
 	public JscObject(Object var, ObjectLike objectLike) {
 		super(var);
@@ -57,6 +58,11 @@ class JscObject extends JsObject implements
 		return objectLike;
 	}
 
+	final void init(Object var, ObjectLike objectLike) {
+		this.var = var;
+		this.objectLike = objectLike;
+	}
+
 	@Override
 	public final JscObject var() {
 		return this;
@@ -101,6 +107,9 @@ class JscObject extends JsObject implements
 	@Override
 	public final boolean delete() {
 		if (undefined()) return false;
+		if (proto) {
+			Core.cache().invalidate();
+		}
 		var = null;
 		objectLike = null;
 		return true;
@@ -111,6 +120,9 @@ class JscObject extends JsObject implements
 		if (undefined()) {
 			return false;
 		}
+		if (proto) {
+			Core.cache().invalidate();
+		}
 		if (likeObject().delete(mid)) {
 			return true;
 		}
@@ -122,8 +134,23 @@ class JscObject extends JsObject implements
 		return false;
 	}
 
-	@Override
-	public final Object var(Mid mid) {
+	private final boolean special(Mid mid) {
+		if (mid == JsArray.length.mid() ||
+		    mid == JsArray.index.mid() ||
+		    mid == JsArray.input.mid()) {
+			Object like = like();
+			return like instanceof ArrayLike<?> || like instanceof StringLike;
+		} else if (mid == JsRegExp.global.mid() ||
+		           mid == JsRegExp.ignoreCase.mid() ||
+		           mid == JsRegExp.multiline.mid() ||
+		           mid == JsRegExp.lastIndex.mid() ||
+		           mid == JsRegExp.source.mid()) {
+			return like() instanceof RegExpLike;
+		}
+		return false;
+	}
+
+	private final Object likeVar(Mid mid) {
 		if (mid == JsArray.length.mid()) {
 			Object like = like();
 			return like instanceof StringLike ?
@@ -140,18 +167,71 @@ class JscObject extends JsObject implements
 			return ((RegExpLike)like()).multiline();
 		} else if (mid == JsRegExp.lastIndex.mid()) {
 			return ((RegExpLike)like()).lastIndex();
-		} else if (mid == JsRegExp.source.mid()) {
+		} else {
 			return ((RegExpLike)like()).source();
 		}
+	}
+
+	@Override
+	public final Object var(Mid mid) {
+		if (special(mid)) {
+			return likeVar(mid);
+		}
 		Object o = likeObject().var(mid);
 		if (o != null) {
 			return o;
 		}
-		JsObject p = (JsObject)likeObject().var(JsFunction.prototype.mid());
-		return Js.be(p) ? p.var(mid) : null;
+		o = likeObject().var(JsFunction.prototype.mid());
+		if (!Js.be(o)) {
+			return null;
+		} else if (!(o instanceof Unwrappable<?>)) {
+			return ((JsObject)o).var(mid);
+		}
+		JscObject p = (JscObject)((Unwrappable<?>)o).unwrap();
+		JscCache cache = Core.cache();
+		JscCache.Site site = cache.site(mid);
+		int epoch = cache.epoch();
+		if (site.megamorphic(epoch)) {
+			return lookup(mid, p, null, epoch);
+		}
+		JscCache.Entry entry = site.lookup(p, epoch);
+		if (entry != null) {
+			return entry.holder == null ? null : entry.holder.likeObject().var(mid);
+		}
+		return lookup(mid, p, site, epoch);
+	}
+
+	private static final Object lookup(Mid mid, JscObject p, JscCache.Site site, int epoch) {
+		JscObject q = p;
+		while (true) {
+			q.proto = true;
+			if (q.special(mid)) {
+				return q.likeVar(mid);
+			}
+			Object o = q.likeObject().var(mid);
+			if (o != null) {
+				if (site != null) {
+					site.fill(p, q, epoch);
+				}
+				return o;
+			}
+			o = q.likeObject().var(JsFunction.prototype.mid());
+			if (!Js.be(o)) {
+				if (site != null) {
+					site.fill(p, null, epoch);
+				}
+				return null;
+			} else if (!(o instanceof Unwrappable<?>)) {
+				return ((JsObject)o).var(mid);
+			}
+			q = (JscObject)((Unwrappable<?>)o).unwrap();
+		}
 	}
 
 	public final <T> T var(Mid mid, T v) {
+		if (proto) {
+			Core.cache().invalidate();
+		}
 		if (mid == JsArray.length.mid()) {
 			((ArrayLike<?>)like()).length(
 					SimUtil.getNumber(v).intValue()
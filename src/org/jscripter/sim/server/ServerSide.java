@@ -39,27 +39,56 @@ public class ServerSide extends Simul
 
 	/**
 	 * <p>Internally determines whether a JS Server-Side Simulation is running.</p>
+	 * <p>If a {@link Context} is entered on the current thread, this method checks the 
+	 * simulation of that context instead.</p>
 	 * @return <tt>true</tt> if there is a JS Core Simulation running; <tt>false</tt> otherwise.
 	 * @since 1.0
 	 * 
 	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> constructor. 
 	 */
-	public final static synchronized boolean isRunning() {
-		return singleton != null;
+	public final static boolean isRunning() {
+		Context c = Context.current();
+		if (c != null) {
+			return c.sim() instanceof ServerSide;
+		}
+		synchronized (ServerSide.class) {
+			return singleton != null;
+		}
 	}
 
 	/**
 	 * <p>Internally gets a JS Server-Side Simulation.</p>
+	 * <p>If a {@link Context} of this kind of simulation is entered on the current 
+	 * thread, this method returns the simulation of that context.</p>
 	 * @return A Js Server-Side Simulation.
 	 * @since 1.0
 	 * 
 	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> constructor. 
 	 */
-	public final static synchronized ServerSide get() {
-		if (singleton == null) {
-			singleton = new ServerSide();
+	public final static ServerSide get() {
+		Context c = Context.current();
+		if (c != null && c.sim() instanceof ServerSide) {
+			return (ServerSide)c.sim();
+		}
+		synchronized (ServerSide.class) {
+			if (singleton == null) {
+				singleton = new ServerSide();
+			}
+			return singleton;
 		}
-		return singleton;
+	}
+
+	/**
+	 * <p>Internally creates a JS Server-Side Simulation which is not shared with {@link #get()}, 
+	 * to be run in its own {@link Context}.</p>
+	 * @return A new Js Server-Side Simulation.
+	 * @see Context#create(Sim)
+	 * @since 1.0
+	 * 
+	 * @javascript Re-compilers must report error on the invocation to an <b>internal</b> constructor. 
+	 */
+	public final static ServerSide create() {
+		return new ServerSide();
 	}
 
 	/**